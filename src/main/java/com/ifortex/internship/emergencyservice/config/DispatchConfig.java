@@ -0,0 +1,86 @@
+package com.ifortex.internship.emergencyservice.config;
+
+import com.ifortex.internship.emergencyservice.model.ParamedicLocation;
+import com.ifortex.internship.emergencyservice.repository.ParamedicLocationRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchProperties;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicGridIndex;
+import com.ifortex.internship.emergencyservice.service.dispatch.ShardedParamedicIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.function.Consumer;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(DispatchProperties.class)
+public class DispatchConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.dispatch.locator", havingValue = "grid")
+    public ParamedicGridIndex paramedicGridIndex(ParamedicLocationRepository paramedicLocationRepository,
+                                                 @Value("${app.dispatch.grid.cell-size-km}") double cellSizeKm,
+                                                 @Value("${app.dispatch.grid.load-page-size}") int pageSize) {
+        ParamedicGridIndex index = new ParamedicGridIndex(cellSizeKm);
+        loadPositions(paramedicLocationRepository, pageSize, location -> index.upsert(
+            location.getParamedicId(),
+            location.getLatitude().doubleValue(),
+            location.getLongitude().doubleValue(),
+            location.getUpdatedAt()));
+        log.info("Paramedic grid index loaded with {} position(s), cell size {} km", index.size(), cellSizeKm);
+        return index;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.dispatch.locator", havingValue = "sharded")
+    public ShardedParamedicIndex shardedParamedicIndex(ParamedicLocationRepository paramedicLocationRepository,
+                                                       @Value("${app.dispatch.shards.workers}") int workers,
+                                                       @Value("${app.dispatch.shards.region-size-km}") double regionSizeKm,
+                                                       @Value("${app.dispatch.grid.cell-size-km}") double cellSizeKm,
+                                                       @Value("${app.dispatch.grid.load-page-size}") int pageSize) {
+        ShardedParamedicIndex index = new ShardedParamedicIndex(workers, regionSizeKm, cellSizeKm);
+        loadPositions(paramedicLocationRepository, pageSize, location -> index.upsert(
+            location.getParamedicId(),
+            location.getLatitude().doubleValue(),
+            location.getLongitude().doubleValue(),
+            location.getUpdatedAt()));
+        log.info("Sharded paramedic index loaded with {} position(s) across {} worker(s), region size {} km",
+            index.size(), workers, regionSizeKm);
+        return index;
+    }
+
+    @Bean
+    public Clock clock(@Value("${app.dispatch.zone}") ZoneId zone) {
+        return Clock.system(zone);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler dispatchTaskScheduler(@Value("${app.dispatch.scheduler.pool-size}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("dispatch-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static void loadPositions(ParamedicLocationRepository paramedicLocationRepository, int pageSize,
+                                      Consumer<ParamedicLocation> consumer) {
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by("paramedicId"));
+        Slice<ParamedicLocation> page;
+        do {
+            page = paramedicLocationRepository.findAllBy(pageable);
+            page.forEach(consumer);
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+    }
+}
@@ -5,6 +5,7 @@ import com.ifortex.internship.medstarter.security.filter.AuthTokenFilter;
 import com.ifortex.internship.medstarter.security.filter.CustomAccessDeniedHandler;
 import com.ifortex.internship.medstarter.security.service.JwtTokenValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -41,6 +42,8 @@ public class SecurityConfig {
             .authorizeHttpRequests(
                 auth ->
                     auth.requestMatchers("/swagger-ui/**", "/v3/api-docs*/**").permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole(ADMIN)
+                        .requestMatchers(WebSocketConfig.PARAMEDIC_LOCATION_STREAM).hasRole("PARAMEDIC")
                         .anyRequest().authenticated())
             .exceptionHandling(
                 exception ->
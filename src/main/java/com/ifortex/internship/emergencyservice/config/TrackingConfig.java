@@ -0,0 +1,19 @@
+package com.ifortex.internship.emergencyservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class TrackingConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor positionStreamExecutor(@Value("${app.tracking.stream.pool-size}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("position-stream-");
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ifortex.internship.emergencyservice.config;
+
+import com.ifortex.internship.emergencyservice.controller.ParamedicLocationStreamHandler;
+import com.ifortex.internship.emergencyservice.dto.request.LocationFrame;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+import java.time.Duration;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    public static final String PARAMEDIC_LOCATION_STREAM = "/ws/v1/paramedic/location";
+
+    private final ParamedicLocationStreamHandler paramedicLocationStreamHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(paramedicLocationStreamHandler, PARAMEDIC_LOCATION_STREAM);
+    }
+
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer(
+        @Value("${app.locations.stream.max-frames-per-message}") int maxFramesPerMessage,
+        @Value("${app.locations.stream.idle-timeout}") Duration idleTimeout) {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxBinaryMessageBufferSize(maxFramesPerMessage * LocationFrame.SIZE);
+        container.setMaxTextMessageBufferSize(1024);
+        container.setMaxSessionIdleTimeout(idleTimeout.toMillis());
+        return container;
+    }
+}
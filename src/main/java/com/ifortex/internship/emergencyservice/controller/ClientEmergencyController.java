@@ -4,6 +4,7 @@ import com.ifortex.internship.emergencyservice.dto.request.CreateEmergencyReques
 import com.ifortex.internship.emergencyservice.dto.request.UpdateEmergencySymptomsRequest;
 import com.ifortex.internship.emergencyservice.dto.response.EmergencySymptomListDto;
 import com.ifortex.internship.emergencyservice.service.EmergencyService;
+import com.ifortex.internship.emergencyservice.service.tracking.ParamedicPositionStream;
 import com.ifortex.internship.medstarter.security.model.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -24,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -39,6 +42,7 @@ import java.util.List;
 public class ClientEmergencyController {
 
     EmergencyService emergencyService;
+    ParamedicPositionStream paramedicPositionStream;
 
     @Operation(summary = "Trigger new emergency", description = "Creates a new emergency and starts paramedic search flow.")
     @PostMapping
@@ -49,6 +53,14 @@ public class ClientEmergencyController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @Operation(summary = "Cancel current emergency", description = "Cancels the ongoing emergency and stops its paramedic search.")
+    @PatchMapping("/current/cancel")
+    public ResponseEntity<Void> cancelCurrentEmergency(@AuthenticationPrincipal UserDetailsImpl client) {
+        log.info("Request to cancel current emergency for client [{}]", client.getAccountId());
+        emergencyService.cancelCurrentEmergency(client);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(
         summary = "Get symptoms for current emergency",
         description = "Returns a hierarchical list of symptoms currently associated with the user's ongoing emergency."
@@ -85,4 +97,14 @@ public class ClientEmergencyController {
         log.info("Symptoms removed successfully for current emergency for user: {}", client.getAccountId());
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+        summary = "Stream paramedic position",
+        description = "Server-sent events with the current position of the paramedic assigned to the ongoing emergency. Only the newest position is delivered to a slow consumer."
+    )
+    @GetMapping(path = "/current/paramedic-location", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamParamedicLocation(@AuthenticationPrincipal UserDetailsImpl client) {
+        log.info("Client [{}] subscribed to paramedic position of current emergency", client.getAccountId());
+        return paramedicPositionStream.subscribe(client.getAccountId());
+    }
 }
@@ -0,0 +1,47 @@
+package com.ifortex.internship.emergencyservice.controller;
+
+import com.ifortex.internship.emergencyservice.dto.response.TrackPointDto;
+import com.ifortex.internship.emergencyservice.service.tracking.EmergencyTrackRecorder;
+import com.ifortex.internship.emergencyservice.util.TrackPointMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/api/v1/emergency")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@SecurityRequirement(name = "BearerAuth")
+@Tag(name = "Emergency Track", description = "Route replay of the paramedic assigned to an emergency")
+@PreAuthorize("hasRole('ADMIN')")
+public class EmergencyTrackController {
+
+    EmergencyTrackRecorder emergencyTrackRecorder;
+    TrackPointMapper trackPointMapper;
+
+    @Operation(
+        summary = "Get paramedic track",
+        description = "Returns the recorded positions of the assigned paramedic in chronological order, including the ones not stored yet"
+    )
+    @GetMapping("/{emergencyId}/track")
+    public ResponseEntity<List<TrackPointDto>> getTrack(@PathVariable UUID emergencyId) {
+        log.info("Track of emergency [{}] requested", emergencyId);
+        return ResponseEntity.ok(trackPointMapper.toDtoList(emergencyTrackRecorder.findTrack(emergencyId)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.ifortex.internship.emergencyservice.controller;
+
+import com.ifortex.internship.emergencyservice.dto.request.UpdateParamedicLocationRequest;
+import com.ifortex.internship.emergencyservice.service.ParamedicLocationService;
+import com.ifortex.internship.medstarter.security.model.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Validated
+@RestController
+@RequestMapping("/api/v1/paramedic")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@SecurityRequirement(name = "BearerAuth")
+@Tag(name = "Paramedic Location", description = "Location reporting from paramedic devices")
+@PreAuthorize("hasRole('PARAMEDIC')")
+public class ParamedicLocationController {
+
+    ParamedicLocationService paramedicLocationService;
+
+    @Operation(
+        summary = "Report current location",
+        description = "Accepts the authenticated paramedic's current position. It is used for dispatch at once and stored in the next batch write"
+    )
+    @PutMapping("/location")
+    public ResponseEntity<Void> updateLocation(@Valid @RequestBody UpdateParamedicLocationRequest request,
+                                               @AuthenticationPrincipal UserDetailsImpl paramedic) {
+        paramedicLocationService.updateLocation(paramedic.getAccountId(), request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+}
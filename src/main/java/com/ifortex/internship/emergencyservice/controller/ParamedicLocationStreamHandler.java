@@ -0,0 +1,79 @@
+package com.ifortex.internship.emergencyservice.controller;
+
+import com.ifortex.internship.emergencyservice.dto.request.LocationFrame;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.service.ParamedicLocationService;
+import com.ifortex.internship.medstarter.security.model.UserDetailsImpl;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Location stream of one paramedic device. The JWT is checked once by the security filter chain on the
+ * handshake; after that every binary message carries one or more {@link LocationFrame}s, of which only
+ * the most recent is applied.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ParamedicLocationStreamHandler extends BinaryWebSocketHandler {
+
+    static final String PARAMEDIC_ID = "paramedicId";
+
+    ParamedicLocationService paramedicLocationService;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        UUID paramedicId = paramedicId(session.getPrincipal());
+        if (paramedicId == null) {
+            log.warn("Location stream [{}] opened without an authenticated paramedic, closing it", session.getId());
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        session.getAttributes().put(PARAMEDIC_ID, paramedicId);
+        log.info("Paramedic [{}] opened location stream [{}]", paramedicId, session.getId());
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        UUID paramedicId = (UUID) session.getAttributes().get(PARAMEDIC_ID);
+        List<LocationFrame> frames;
+        try {
+            frames = LocationFrame.decodeAll(message.getPayload());
+        } catch (IllegalArgumentException e) {
+            log.warn("Closing location stream of paramedic [{}]: {}", paramedicId, e.getMessage());
+            session.close(CloseStatus.BAD_DATA.withReason("Malformed location frame"));
+            return;
+        }
+        LocationFrame latest = frames.stream().max(Comparator.comparingLong(LocationFrame::recordedAtMillis)).orElseThrow();
+        paramedicLocationService.reportLocation(paramedicId, new GeoPoint(latest.latitudeE6(), latest.longitudeE6()),
+            Instant.ofEpochMilli(latest.recordedAtMillis()));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        log.info("Location stream [{}] of paramedic [{}] closed: {}", session.getId(), session.getAttributes().get(PARAMEDIC_ID), status);
+    }
+
+    private static UUID paramedicId(Principal principal) {
+        if (principal instanceof Authentication authentication && authentication.getPrincipal() instanceof UserDetailsImpl paramedic) {
+            return paramedic.getAccountId();
+        }
+        return null;
+    }
+}
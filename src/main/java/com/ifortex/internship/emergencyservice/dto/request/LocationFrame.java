@@ -0,0 +1,42 @@
+package com.ifortex.internship.emergencyservice.dto.request;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-width binary location sample sent over the paramedic location stream, big-endian:
+ * latitude and longitude in micro-degrees as 4-byte ints, then the recording time as 8-byte epoch millis.
+ * One binary message carries one or more frames back to back.
+ */
+public record LocationFrame(int latitudeE6, int longitudeE6, long recordedAtMillis) {
+
+    public static final int SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+
+    private static final int MAX_LATITUDE_E6 = 90_000_000;
+    private static final int MAX_LONGITUDE_E6 = 180_000_000;
+
+    /**
+     * Decodes every frame in the message, or throws {@link IllegalArgumentException} when the message is
+     * not a whole number of frames or holds coordinates outside the valid range.
+     */
+    public static List<LocationFrame> decodeAll(ByteBuffer message) {
+        if (message.remaining() == 0 || message.remaining() % SIZE != 0) {
+            throw new IllegalArgumentException(
+                String.format("Location message of %d bytes is not a multiple of %d", message.remaining(), SIZE));
+        }
+        List<LocationFrame> frames = new ArrayList<>(message.remaining() / SIZE);
+        while (message.hasRemaining()) {
+            LocationFrame frame = new LocationFrame(message.getInt(), message.getInt(), message.getLong());
+            if (Math.abs(frame.latitudeE6()) > MAX_LATITUDE_E6 || Math.abs(frame.longitudeE6()) > MAX_LONGITUDE_E6) {
+                throw new IllegalArgumentException(String.format("Location frame out of range: %s", frame));
+            }
+            frames.add(frame);
+        }
+        return frames;
+    }
+
+    public void encodeTo(ByteBuffer buffer) {
+        buffer.putInt(latitudeE6).putInt(longitudeE6).putLong(recordedAtMillis);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ifortex.internship.emergencyservice.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+public record UpdateParamedicLocationRequest(@NotNull(message = "Latitude is required")
+                                             @DecimalMin(value = "-90.0", message = "Latitude must be greater than or equal to -90.0")
+                                             @DecimalMax(value = "90.0", message = "Latitude must be less than or equal to 90.0")
+                                             BigDecimal latitude,
+
+                                             @NotNull(message = "Longitude is required")
+                                             @DecimalMin(value = "-180.0", message = "Longitude must be greater than or equal to -180.0")
+                                             @DecimalMax(value = "180.0", message = "Longitude must be less than or equal to 180.0")
+                                             BigDecimal longitude
+) {
+}
@@ -22,6 +22,7 @@ public class ParamedicEmergencyViewDto {
     String id;
     Instant createdAt;
     Instant closedAt;
+    Instant arrivedAt;
     EmergencyStatus status;
     UUID clientId;
     UUID paramedicId;
@@ -0,0 +1,11 @@
+package com.ifortex.internship.emergencyservice.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record TrackPointDto(
+    BigDecimal latitude,
+    BigDecimal longitude,
+    Instant timestamp
+) {
+}
@@ -0,0 +1,6 @@
+package com.ifortex.internship.emergencyservice.event;
+
+import java.util.UUID;
+
+public record EmergencyClosedEvent(UUID emergencyId) {
+}
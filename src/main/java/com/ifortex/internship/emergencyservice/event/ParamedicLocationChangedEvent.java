@@ -0,0 +1,7 @@
+package com.ifortex.internship.emergencyservice.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ParamedicLocationChangedEvent(UUID paramedicId, double latitude, double longitude, Instant updatedAt) {
+}
@@ -0,0 +1,7 @@
+package com.ifortex.internship.emergencyservice.event;
+
+import java.util.List;
+import java.util.UUID;
+
+public record PendingSearchesClaimedEvent(List<UUID> emergencyIds) {
+}
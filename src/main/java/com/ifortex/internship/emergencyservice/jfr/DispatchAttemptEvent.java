@@ -0,0 +1,33 @@
+package com.ifortex.internship.emergencyservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ifortex.emergency.DispatchAttempt")
+@Label("Dispatch Attempt")
+@Category({"Emergency Service", "Dispatch"})
+@Description("One paramedic search attempt for a pending emergency")
+@StackTrace(false)
+public class DispatchAttemptEvent extends Event {
+
+    @Label("Emergency Id")
+    public String emergencyId;
+
+    @Label("Trigger")
+    @Description("scheduled, triggered or batch")
+    public String trigger;
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Radius Km")
+    public double radiusKm;
+
+    @Label("Outcome")
+    @Description("completed, unmatched or failed")
+    public String outcome;
+}
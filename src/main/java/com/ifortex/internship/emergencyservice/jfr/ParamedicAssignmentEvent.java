@@ -0,0 +1,39 @@
+package com.ifortex.internship.emergencyservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.ifortex.emergency.ParamedicAssignment")
+@Label("Paramedic Assignment")
+@Category({"Emergency Service", "Dispatch"})
+@Description("Writes made while assigning a paramedic to an emergency, split by step")
+@StackTrace(false)
+public class ParamedicAssignmentEvent extends Event {
+
+    @Label("Emergency Id")
+    public String emergencyId;
+
+    @Label("Paramedic Id")
+    public String paramedicId;
+
+    @Label("Emergency Update")
+    @Timespan(Timespan.NANOSECONDS)
+    public long emergencyUpdateNanos;
+
+    @Label("Assignment Insert")
+    @Timespan(Timespan.NANOSECONDS)
+    public long assignmentInsertNanos;
+
+    @Label("Locations Insert")
+    @Timespan(Timespan.NANOSECONDS)
+    public long locationsInsertNanos;
+
+    @Label("Snapshot Update")
+    @Timespan(Timespan.NANOSECONDS)
+    public long snapshotUpdateNanos;
+}
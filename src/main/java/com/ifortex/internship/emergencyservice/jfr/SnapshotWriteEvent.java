@@ -0,0 +1,28 @@
+package com.ifortex.internship.emergencyservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ifortex.emergency.SnapshotWrite")
+@Label("Emergency Snapshot Write")
+@Category({"Emergency Service", "MongoDB"})
+@Description("One write of an emergency snapshot document, a full save or a targeted update")
+@StackTrace(false)
+public class SnapshotWriteEvent extends Event {
+
+    @Label("Emergency Id")
+    public String emergencyId;
+
+    @Label("Operation")
+    @Description("save, close, setArrivedAt or replaceTrack")
+    public String operation;
+
+    @Label("Payload Size")
+    @DataAmount(DataAmount.BYTES)
+    public long payloadBytes;
+}
@@ -0,0 +1,86 @@
+package com.ifortex.internship.emergencyservice.jfr;
+
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencySnapshot;
+import com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Emits a {@link SnapshotWriteEvent} around every write through {@link EmergencySnapshotRepository}, whole
+ * document saves and targeted updates alike. The event spans the repository call itself and is committed
+ * even when the call throws.
+ */
+@Component
+public class SnapshotWriteRecorder implements BeanPostProcessor, MethodInterceptor {
+
+    private static final Set<String> WRITES = Set.of("save", "close", "setArrivedAt", "replaceTrack");
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
+    private final ObjectProvider<MongoConverter> mongoConverter;
+
+    public SnapshotWriteRecorder(ObjectProvider<MongoConverter> mongoConverter) {
+        this.mongoConverter = mongoConverter;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof EmergencySnapshotRepository)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(bean);
+        proxyFactory.addInterface(EmergencySnapshotRepository.class);
+        proxyFactory.addAdvice(this);
+        return proxyFactory.getProxy();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String operation = invocation.getMethod().getName();
+        SnapshotWriteEvent writeEvent = new SnapshotWriteEvent();
+        if (!WRITES.contains(operation) || !writeEvent.isEnabled()) {
+            return invocation.proceed();
+        }
+        writeEvent.begin();
+        try {
+            return invocation.proceed();
+        } finally {
+            writeEvent.end();
+            if (writeEvent.shouldCommit()) {
+                Object[] arguments = invocation.getArguments();
+                writeEvent.operation = operation;
+                writeEvent.emergencyId = arguments[0] instanceof EmergencySnapshot snapshot
+                    ? snapshot.getId()
+                    : String.valueOf(arguments[0]);
+                writeEvent.payloadBytes = payloadBytes(operation, arguments);
+                writeEvent.commit();
+            }
+        }
+    }
+
+    private long payloadBytes(String operation, Object[] arguments) {
+        MongoConverter converter = mongoConverter.getIfAvailable();
+        if (converter == null) {
+            return 0;
+        }
+        Document document = new Document();
+        if (arguments[0] instanceof EmergencySnapshot snapshot) {
+            converter.write(snapshot, document);
+        } else if ("replaceTrack".equals(operation)) {
+            document.put("locations", converter.convertToMongoType(arguments[1]));
+        } else {
+            return 0;
+        }
+        return new RawBsonDocument(document, DOCUMENT_CODEC).getByteBuffer().remaining();
+    }
+}
@@ -0,0 +1,38 @@
+package com.ifortex.internship.emergencyservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Ownership of a pending paramedic search by one service instance. The owner keeps extending the lease
+ * while it runs the search; once the lease expires any other instance may take the search over.
+ */
+@Entity
+@Table(name = "dispatch_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class DispatchLease {
+
+    @Id
+    UUID emergencyId;
+
+    @Column(nullable = false, length = 64)
+    String ownerId;
+
+    @Column(nullable = false)
+    Instant expiresAt;
+}
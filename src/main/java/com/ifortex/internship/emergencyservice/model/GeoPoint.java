@@ -0,0 +1,53 @@
+package com.ifortex.internship.emergencyservice.model;
+
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Coordinate pair in fixed-point micro-degrees, the same precision as the NUMERIC(10, 6) columns.
+ * Used on the dispatch and tracking paths instead of {@link BigDecimal}, which is only produced
+ * at the persistence and API edges.
+ */
+public record GeoPoint(int latitudeE6, int longitudeE6) {
+
+    private static final int SCALE = 6;
+    private static final double MICRO_DEGREES = 1_000_000.0;
+
+    public static GeoPoint of(double latitude, double longitude) {
+        return new GeoPoint((int) Math.round(latitude * MICRO_DEGREES), (int) Math.round(longitude * MICRO_DEGREES));
+    }
+
+    public static GeoPoint of(BigDecimal latitude, BigDecimal longitude) {
+        return new GeoPoint(toMicroDegrees(latitude), toMicroDegrees(longitude));
+    }
+
+    public double latitude() {
+        return latitudeE6 / MICRO_DEGREES;
+    }
+
+    public double longitude() {
+        return longitudeE6 / MICRO_DEGREES;
+    }
+
+    public BigDecimal latitudeDecimal() {
+        return BigDecimal.valueOf(latitudeE6, SCALE);
+    }
+
+    public BigDecimal longitudeDecimal() {
+        return BigDecimal.valueOf(longitudeE6, SCALE);
+    }
+
+    public double distanceKm(double latitude, double longitude) {
+        return GeoUtils.distanceKm(latitude(), longitude(), latitude, longitude);
+    }
+
+    public double distanceKm(GeoPoint other) {
+        return distanceKm(other.latitude(), other.longitude());
+    }
+
+    private static int toMicroDegrees(BigDecimal degrees) {
+        return degrees.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+    }
+}
@@ -0,0 +1,38 @@
+package com.ifortex.internship.emergencyservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Reservation of a paramedic for an emergency. A claim holds only while its emergency is ONGOING,
+ * after that the row is taken over by the next claim for the same paramedic.
+ */
+@Entity
+@Table(name = "paramedic_claim")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ParamedicClaim {
+
+    @Id
+    UUID paramedicId;
+
+    @Column(nullable = false)
+    UUID emergencyId;
+
+    @Column(nullable = false)
+    Instant claimedAt;
+}
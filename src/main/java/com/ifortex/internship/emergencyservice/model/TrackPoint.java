@@ -0,0 +1,10 @@
+package com.ifortex.internship.emergencyservice.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One recorded position of the paramedic assigned to an emergency.
+ */
+public record TrackPoint(UUID emergencyId, GeoPoint point, Instant recordedAt) {
+}
@@ -3,5 +3,6 @@ package com.ifortex.internship.emergencyservice.model.constant;
 public enum EmergencyLocationType {
     INITIATOR,
     PARAMEDIC_ACCEPTED,
-    PARAMEDIC_CURRENT
+    PARAMEDIC_CURRENT,
+    PARAMEDIC_TRACK
 }
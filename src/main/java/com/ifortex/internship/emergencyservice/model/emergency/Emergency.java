@@ -74,4 +74,6 @@ public class Emergency {
     @UpdateTimestamp
     @Column(nullable = false)
     Instant updatedAt;
+
+    Instant arrivedAt;
 }
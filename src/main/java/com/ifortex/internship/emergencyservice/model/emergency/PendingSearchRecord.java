@@ -0,0 +1,51 @@
+package com.ifortex.internship.emergencyservice.model.emergency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+@Table(name = "pending_search")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class PendingSearchRecord {
+
+    @Id
+    UUID emergencyId;
+
+    @Column(nullable = false, precision = 10, scale = 6)
+    BigDecimal latitude;
+
+    @Column(nullable = false, precision = 10, scale = 6)
+    BigDecimal longitude;
+
+    @Column(nullable = false)
+    double radiusKm;
+
+    @Column(nullable = false)
+    int attempt;
+
+    @Column(nullable = false)
+    Instant nextAttemptAt;
+
+    Instant extendedDeadline;
+
+    @Column(nullable = false)
+    Instant startedAt;
+}
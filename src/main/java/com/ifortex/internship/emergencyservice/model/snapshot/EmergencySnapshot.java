@@ -32,6 +32,7 @@ public class EmergencySnapshot {
     String id;
     Instant createdAt;
     Instant closedAt;
+    Instant arrivedAt;
     EmergencyStatus status;
 
     UUID clientId;
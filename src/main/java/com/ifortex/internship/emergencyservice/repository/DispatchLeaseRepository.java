@@ -0,0 +1,76 @@
+package com.ifortex.internship.emergencyservice.repository;
+
+import com.ifortex.internship.emergencyservice.model.DispatchLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lease expiry is always computed from the database clock, in UTC like the rest of the schema, so
+ * instances with skewed clocks agree on it.
+ */
+@Repository
+public interface DispatchLeaseRepository extends JpaRepository<DispatchLease, UUID> {
+
+    /**
+     * Takes or extends the lease on the emergency's search. Returns 1 when the caller owns the lease
+     * afterwards and 0 when another owner still holds an unexpired lease.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO dispatch_lease AS lease (emergency_id, owner_id, expires_at)
+        VALUES (:emergencyId, :ownerId, timezone('UTC', now()) + make_interval(secs => :ttlSeconds))
+        ON CONFLICT (emergency_id) DO UPDATE
+            SET owner_id = EXCLUDED.owner_id,
+                expires_at = EXCLUDED.expires_at
+            WHERE lease.owner_id = EXCLUDED.owner_id OR lease.expires_at < timezone('UTC', now())
+        """, nativeQuery = true)
+    int acquire(@Param("emergencyId") UUID emergencyId, @Param("ownerId") String ownerId, @Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * Extends every lease the owner still holds. A lease that expired but was not taken over yet is
+     * still the owner's, so it is extended as well.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE dispatch_lease
+        SET expires_at = timezone('UTC', now()) + make_interval(secs => :ttlSeconds)
+        WHERE owner_id = :ownerId
+        """, nativeQuery = true)
+    int renew(@Param("ownerId") String ownerId, @Param("ttlSeconds") long ttlSeconds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM dispatch_lease WHERE emergency_id = :emergencyId AND owner_id = :ownerId", nativeQuery = true)
+    int release(@Param("emergencyId") UUID emergencyId, @Param("ownerId") String ownerId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM dispatch_lease WHERE emergency_id = :emergencyId", nativeQuery = true)
+    int deleteByEmergencyId(@Param("emergencyId") UUID emergencyId);
+
+    @Query(value = "SELECT emergency_id FROM dispatch_lease WHERE owner_id = :ownerId", nativeQuery = true)
+    List<UUID> findEmergencyIdsByOwnerId(@Param("ownerId") String ownerId);
+
+    /**
+     * Pending searches without a live lease, oldest due first: searches of crashed instances and
+     * searches stored before leases were in use.
+     */
+    @Query(value = """
+        SELECT ps.emergency_id
+        FROM pending_search ps
+        LEFT JOIN dispatch_lease lease ON lease.emergency_id = ps.emergency_id
+        WHERE lease.emergency_id IS NULL OR lease.expires_at < timezone('UTC', now())
+        ORDER BY ps.next_attempt_at
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<UUID> findUnleasedSearchIds(@Param("limit") int limit);
+}
@@ -0,0 +1,21 @@
+package com.ifortex.internship.emergencyservice.repository;
+
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+public interface EmergencyLocationBatchRepository {
+
+    /**
+     * Appends the points as PARAMEDIC_TRACK locations with JDBC batches.
+     */
+    void appendTrackPoints(Collection<TrackPoint> points);
+
+    /**
+     * Streams the PARAMEDIC_TRACK locations recorded since the given time, ordered by emergency and
+     * time, without loading them all into memory.
+     */
+    void forEachTrackPointSince(Instant since, Consumer<TrackPoint> consumer);
+}
@@ -0,0 +1,74 @@
+package com.ifortex.internship.emergencyservice.repository;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EmergencyLocationBatchRepositoryImpl implements EmergencyLocationBatchRepository {
+
+    private static final String INSERT_TRACK_POINT = """
+        INSERT INTO emergency_location (emergency_id, location_type, latitude, longitude, timestamp)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private static final String SELECT_TRACK_POINTS_SINCE = """
+        SELECT emergency_id, latitude, longitude, timestamp
+        FROM emergency_location
+        WHERE location_type = ? AND timestamp >= ?
+        ORDER BY emergency_id, timestamp
+        """;
+
+    JdbcTemplate jdbcTemplate;
+
+    @Value("${app.tracking.flush-batch-size}") int batchSize;
+
+    /**
+     * Commits on its own so that a flush triggered from an after-commit callback, where the surrounding
+     * transaction is already finished, is not silently joined to it and lost.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void appendTrackPoints(Collection<TrackPoint> points) {
+        jdbcTemplate.batchUpdate(INSERT_TRACK_POINT, points, batchSize, (statement, point) -> {
+            statement.setObject(1, point.emergencyId());
+            statement.setString(2, EmergencyLocationType.PARAMEDIC_TRACK.name());
+            statement.setBigDecimal(3, point.point().latitudeDecimal());
+            statement.setBigDecimal(4, point.point().longitudeDecimal());
+            statement.setObject(5, LocalDateTime.ofInstant(point.recordedAt(), ZoneOffset.UTC));
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachTrackPointSince(Instant since, Consumer<TrackPoint> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_TRACK_POINTS_SINCE);
+            statement.setFetchSize(batchSize);
+            statement.setString(1, EmergencyLocationType.PARAMEDIC_TRACK.name());
+            statement.setObject(2, LocalDateTime.ofInstant(since, ZoneOffset.UTC));
+            return statement;
+        }, resultSet -> {
+            consumer.accept(new TrackPoint(
+                resultSet.getObject(1, UUID.class),
+                GeoPoint.of(resultSet.getBigDecimal(2), resultSet.getBigDecimal(3)),
+                resultSet.getObject(4, LocalDateTime.class).toInstant(ZoneOffset.UTC)));
+        });
+    }
+}
@@ -5,10 +5,16 @@ import com.ifortex.internship.emergencyservice.model.emergency.EmergencyLocation
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface EmergencyLocationRepository extends JpaRepository<EmergencyLocation, Long> {
+public interface EmergencyLocationRepository extends JpaRepository<EmergencyLocation, Long>, EmergencyLocationBatchRepository {
 
     void deleteByEmergencyIdAndLocationType(UUID id, EmergencyLocationType emergencyLocationType);
+
+    List<EmergencyLocation> findByEmergencyIdAndLocationTypeOrderByTimestampAsc(UUID id, EmergencyLocationType emergencyLocationType);
+
+    Optional<EmergencyLocation> findFirstByEmergencyIdAndLocationType(UUID id, EmergencyLocationType emergencyLocationType);
 }
@@ -2,10 +2,18 @@ package com.ifortex.internship.emergencyservice.repository;
 
 import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
 import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -13,7 +21,36 @@ public interface EmergencyRepository extends JpaRepository<Emergency, UUID> {
 
     boolean existsByClientIdAndStatus(UUID clientId, EmergencyStatus status);
 
+    boolean existsByIdAndStatus(UUID id, EmergencyStatus status);
+
     Optional<Emergency> findByClientIdAndStatus(UUID clientId, EmergencyStatus status);
 
-    Optional<Emergency> findByParamedicIdAndStatus(UUID paramedicId, EmergencyStatus status);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Emergency e WHERE e.id = :id")
+    Optional<Emergency> findByIdForUpdate(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Emergency e WHERE e.clientId = :clientId AND e.status = :status")
+    Optional<Emergency> findByClientIdAndStatusForUpdate(@Param("clientId") UUID clientId,
+                                                         @Param("status") EmergencyStatus status);
+
+    Optional<Emergency> findFirstByParamedicIdAndStatusOrderByCreatedAtDesc(UUID paramedicId, EmergencyStatus status);
+
+    @Query("SELECT e.paramedicId FROM Emergency e WHERE e.status = :status AND e.paramedicId IS NOT NULL")
+    Set<UUID> findParamedicIdsByStatus(@Param("status") EmergencyStatus status);
+
+    /**
+     * Records the arrival of the assigned paramedic. Returns 0 when the emergency is no longer ongoing,
+     * has another paramedic or already has an arrival, so repeated detections are harmless.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Emergency e SET e.arrivedAt = :arrivedAt, e.updatedAt = :arrivedAt
+        WHERE e.id = :id AND e.paramedicId = :paramedicId AND e.status = :status AND e.arrivedAt IS NULL
+        """)
+    int markArrived(@Param("id") UUID id,
+                    @Param("paramedicId") UUID paramedicId,
+                    @Param("status") EmergencyStatus status,
+                    @Param("arrivedAt") Instant arrivedAt);
 }
@@ -7,7 +7,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface EmergencySnapshotRepository extends MongoRepository<EmergencySnapshot, String> {
+public interface EmergencySnapshotRepository extends MongoRepository<EmergencySnapshot, String>, EmergencySnapshotUpdateRepository {
 
     Optional<EmergencySnapshot> findByClientIdAndStatus(UUID clientId, EmergencyStatus status);
 
@@ -0,0 +1,32 @@
+package com.ifortex.internship.emergencyservice.repository;
+
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencyLocationSnapshot;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencySnapshot;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Targeted updates of single snapshot fields. Unlike a save of the whole document they cannot overwrite
+ * a concurrent change to another field.
+ */
+public interface EmergencySnapshotUpdateRepository {
+
+    /**
+     * Sets the status and closing time. Returns false when the snapshot does not exist.
+     */
+    boolean close(String id, EmergencyStatus status, Instant closedAt);
+
+    /**
+     * Sets the arrival time and returns the updated snapshot, or empty when it does not exist.
+     */
+    Optional<EmergencySnapshot> setArrivedAt(String id, Instant arrivedAt);
+
+    /**
+     * Replaces the PARAMEDIC_TRACK locations and leaves the other locations untouched. Returns false when
+     * the snapshot does not exist.
+     */
+    boolean replaceTrack(String id, Collection<EmergencyLocationSnapshot> track);
+}
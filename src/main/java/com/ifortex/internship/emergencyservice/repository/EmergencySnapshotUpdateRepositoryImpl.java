@@ -0,0 +1,61 @@
+package com.ifortex.internship.emergencyservice.repository;
+
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencyLocationSnapshot;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencySnapshot;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EmergencySnapshotUpdateRepositoryImpl implements EmergencySnapshotUpdateRepository {
+
+    private static final String LOCATIONS = "locations";
+
+    MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean close(String id, EmergencyStatus status, Instant closedAt) {
+        Update update = new Update().set("status", status).set("closedAt", closedAt);
+        return mongoTemplate.updateFirst(byId(id), update, EmergencySnapshot.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public Optional<EmergencySnapshot> setArrivedAt(String id, Instant arrivedAt) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(byId(id), new Update().set("arrivedAt", arrivedAt),
+            FindAndModifyOptions.options().returnNew(true), EmergencySnapshot.class));
+    }
+
+    @Override
+    public boolean replaceTrack(String id, Collection<EmergencyLocationSnapshot> track) {
+        // a pipeline update rewrites the array in one $set: the kept locations followed by the new track
+        Document kept = new Document("$filter", new Document()
+            .append("input", new Document("$ifNull", List.of("$" + LOCATIONS, List.of())))
+            .append("as", "location")
+            .append("cond", new Document("$ne",
+                List.of("$$location.locationType", EmergencyLocationType.PARAMEDIC_TRACK.name()))));
+        Document locations = new Document("$concatArrays",
+            List.of(kept, new Document("$literal", mongoTemplate.getConverter().convertToMongoType(track))));
+        AggregationUpdate update = AggregationUpdate.from(
+            List.of(context -> new Document("$set", new Document(LOCATIONS, locations))));
+        return mongoTemplate.updateFirst(byId(id), update, EmergencySnapshot.class).getMatchedCount() > 0;
+    }
+
+    private static Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
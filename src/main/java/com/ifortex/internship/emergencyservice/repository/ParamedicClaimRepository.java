@@ -0,0 +1,32 @@
+package com.ifortex.internship.emergencyservice.repository;
+
+import com.ifortex.internship.emergencyservice.model.ParamedicClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ParamedicClaimRepository extends JpaRepository<ParamedicClaim, UUID> {
+
+    /**
+     * Atomically reserves the paramedic for the emergency. Returns 1 when the claim is taken and 0 when
+     * the paramedic is already held by another ongoing emergency. A concurrent claim on the same
+     * paramedic waits on the row lock only, never on unrelated dispatches.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO paramedic_claim AS claim (paramedic_id, emergency_id, claimed_at)
+        VALUES (:paramedicId, :emergencyId, now())
+        ON CONFLICT (paramedic_id) DO UPDATE
+            SET emergency_id = EXCLUDED.emergency_id,
+                claimed_at = EXCLUDED.claimed_at
+            WHERE NOT EXISTS (
+                SELECT 1 FROM emergency e WHERE e.id = claim.emergency_id AND e.status = 'ONGOING'
+            )
+        """, nativeQuery = true)
+    int claim(@Param("paramedicId") UUID paramedicId, @Param("emergencyId") UUID emergencyId);
+}
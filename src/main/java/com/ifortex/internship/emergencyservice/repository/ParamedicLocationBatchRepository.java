@@ -0,0 +1,14 @@
+package com.ifortex.internship.emergencyservice.repository;
+
+import com.ifortex.internship.emergencyservice.model.ParamedicLocation;
+
+import java.util.Collection;
+
+public interface ParamedicLocationBatchRepository {
+
+    /**
+     * Inserts or updates the locations with JDBC batches. A stored location that is newer than the
+     * written one is kept, so an instance flushing late never moves a paramedic back in time.
+     */
+    void upsertAll(Collection<ParamedicLocation> locations);
+}
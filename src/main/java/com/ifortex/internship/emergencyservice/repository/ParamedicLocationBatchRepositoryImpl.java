@@ -0,0 +1,43 @@
+package com.ifortex.internship.emergencyservice.repository;
+
+import com.ifortex.internship.emergencyservice.model.ParamedicLocation;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ParamedicLocationBatchRepositoryImpl implements ParamedicLocationBatchRepository {
+
+    private static final String UPSERT = """
+        INSERT INTO paramedic_location AS location (paramedic_id, latitude, longitude, updated_at)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (paramedic_id) DO UPDATE
+            SET latitude = EXCLUDED.latitude,
+                longitude = EXCLUDED.longitude,
+                updated_at = EXCLUDED.updated_at
+            WHERE location.updated_at <= EXCLUDED.updated_at
+        """;
+
+    JdbcTemplate jdbcTemplate;
+
+    @Value("${app.locations.flush-batch-size}") int batchSize;
+
+    @Override
+    @Transactional
+    public void upsertAll(Collection<ParamedicLocation> locations) {
+        jdbcTemplate.batchUpdate(UPSERT, locations, batchSize, (statement, location) -> {
+            statement.setObject(1, location.getParamedicId());
+            statement.setBigDecimal(2, location.getLatitude());
+            statement.setBigDecimal(3, location.getLongitude());
+            statement.setObject(4, LocalDateTime.ofInstant(location.getUpdatedAt(), ZoneOffset.UTC));
+        });
+    }
+}
@@ -1,46 +1,94 @@
 package com.ifortex.internship.emergencyservice.repository;
 
 import com.ifortex.internship.emergencyservice.model.ParamedicLocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ParamedicLocationRepository extends JpaRepository<ParamedicLocation, UUID> {
+public interface ParamedicLocationRepository extends JpaRepository<ParamedicLocation, UUID>, ParamedicLocationBatchRepository {
 
+    /**
+     * Nearest free paramedics within {@code radius} km. The bounding box is matched against the
+     * (latitude, longitude) index first, and the exact distance is computed from the trigonometric
+     * columns maintained on write only for the rows inside the box. Locations last reported before
+     * {@code freshSince} are treated as offline.
+     */
     @Query(value = """
         SELECT paramedic_id, latitude, longitude, updated_at
-        FROM paramedic_location
-        WHERE (
-            6371 * acos(
-                cos(radians(:lat)) * cos(radians(latitude)) *
-                cos(radians(longitude) - radians(:lon)) +
-                sin(radians(:lat)) * sin(radians(latitude))
-            )
-        ) <= :radius
-          AND paramedic_id NOT IN (
-              SELECT paramedic_id FROM emergency WHERE status = 'ONGOING' AND paramedic_id IS NOT NULL
-          )
-        ORDER BY (
-            6371 * acos(
-                cos(radians(:lat)) * cos(radians(latitude)) *
-                cos(radians(longitude) - radians(:lon)) +
-                sin(radians(:lat)) * sin(radians(latitude))
-            )
-        )
-        LIMIT 1
+        FROM (
+            SELECT location.paramedic_id, location.latitude, location.longitude, location.updated_at,
+                   6371 * acos(LEAST(1.0,
+                       :sinLat * location.sin_lat +
+                       :cosLat * location.cos_lat * cos(location.lon_rad - :lonRad)
+                   )) AS distance
+            FROM paramedic_location location
+            WHERE location.latitude BETWEEN CAST(:minLat AS NUMERIC) AND CAST(:maxLat AS NUMERIC)
+              AND location.longitude BETWEEN CAST(:minLon AS NUMERIC) AND CAST(:maxLon AS NUMERIC)
+              AND location.updated_at >= :freshSince
+              AND NOT EXISTS (
+                  SELECT 1 FROM emergency e WHERE e.status = 'ONGOING' AND e.paramedic_id = location.paramedic_id
+              )
+        ) candidate
+        WHERE distance <= :radius
+        ORDER BY distance
+        LIMIT :limit
         """, nativeQuery = true)
-    Optional<ParamedicLocation> findNearestAvailableParamedicInRadius(
-        @Param("lat") BigDecimal latitude,
-        @Param("lon") BigDecimal longitude,
-        @Param("radius") double radiusInKm
+    List<ParamedicLocation> findNearestAvailableParamedicsInBox(
+        @Param("minLat") double minLatitude,
+        @Param("maxLat") double maxLatitude,
+        @Param("minLon") double minLongitude,
+        @Param("maxLon") double maxLongitude,
+        @Param("sinLat") double sinLatitude,
+        @Param("cosLat") double cosLatitude,
+        @Param("lonRad") double longitudeRadians,
+        @Param("radius") double radiusInKm,
+        @Param("freshSince") Instant freshSince,
+        @Param("limit") int limit
     );
 
-    //todo and index
+    /**
+     * Ascending distances to every free paramedic within {@code radius} km, filtered the same way as
+     * {@link #findNearestAvailableParamedicsInBox}.
+     */
+    @Query(value = """
+        SELECT distance
+        FROM (
+            SELECT 6371 * acos(LEAST(1.0,
+                       :sinLat * location.sin_lat +
+                       :cosLat * location.cos_lat * cos(location.lon_rad - :lonRad)
+                   )) AS distance
+            FROM paramedic_location location
+            WHERE location.latitude BETWEEN CAST(:minLat AS NUMERIC) AND CAST(:maxLat AS NUMERIC)
+              AND location.longitude BETWEEN CAST(:minLon AS NUMERIC) AND CAST(:maxLon AS NUMERIC)
+              AND location.updated_at >= :freshSince
+              AND NOT EXISTS (
+                  SELECT 1 FROM emergency e WHERE e.status = 'ONGOING' AND e.paramedic_id = location.paramedic_id
+              )
+        ) candidate
+        WHERE distance <= :radius
+        ORDER BY distance
+        """, nativeQuery = true)
+    List<Double> findAvailableDistancesInBox(
+        @Param("minLat") double minLatitude,
+        @Param("maxLat") double maxLatitude,
+        @Param("minLon") double minLongitude,
+        @Param("maxLon") double maxLongitude,
+        @Param("sinLat") double sinLatitude,
+        @Param("cosLat") double cosLatitude,
+        @Param("lonRad") double longitudeRadians,
+        @Param("radius") double radiusInKm,
+        @Param("freshSince") Instant freshSince
+    );
+
+    Slice<ParamedicLocation> findAllBy(Pageable pageable);
+
     // add constraint on emergency assigment
 }
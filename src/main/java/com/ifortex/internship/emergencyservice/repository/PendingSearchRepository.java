@@ -0,0 +1,14 @@
+package com.ifortex.internship.emergencyservice.repository;
+
+import com.ifortex.internship.emergencyservice.model.emergency.PendingSearchRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PendingSearchRepository extends JpaRepository<PendingSearchRecord, UUID> {
+
+    List<PendingSearchRecord> findAllByOrderByNextAttemptAtAsc();
+}
@@ -7,6 +7,7 @@ import com.ifortex.internship.emergencyservice.dto.response.ParamedicEmergencyVi
 import com.ifortex.internship.emergencyservice.dto.response.SymptomDto;
 import com.ifortex.internship.emergencyservice.dto.response.UserAllergyDto;
 import com.ifortex.internship.emergencyservice.dto.response.UserDiseaseDto;
+import com.ifortex.internship.emergencyservice.event.EmergencyClosedEvent;
 import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
 import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
 import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
@@ -18,9 +19,11 @@ import com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepos
 import com.ifortex.internship.emergencyservice.repository.SymptomRepository;
 import com.ifortex.internship.emergencyservice.repository.UserAllergyRepository;
 import com.ifortex.internship.emergencyservice.repository.UserDiseaseRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.BusyParamedicRegistry;
 import com.ifortex.internship.emergencyservice.util.EmergencyLocationMapper;
 import com.ifortex.internship.emergencyservice.util.EmergencySnapshotMapper;
 import com.ifortex.internship.emergencyservice.util.SymptomMapper;
+import com.ifortex.internship.emergencyservice.util.TransactionUtils;
 import com.ifortex.internship.emergencyservice.util.UserAllergyMapper;
 import com.ifortex.internship.emergencyservice.util.UserDiseaseMapper;
 import com.ifortex.internship.medstarter.exception.custom.EntityNotFoundException;
@@ -31,8 +34,10 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -60,10 +65,13 @@ public class EmergencyService {
     UserAllergyRepository userAllergyRepository;
     UserDiseaseRepository userDiseaseRepository;
     ParamedicSearchService paramedicSearchService;
+    BusyParamedicRegistry busyParamedicRegistry;
     EmergencyLocationMapper emergencyLocationMapper;
     EmergencySnapshotMapper emergencySnapshotMapper;
     EmergencyLocationRepository emergencyLocationRepository;
     EmergencySnapshotRepository emergencySnapshotRepository;
+    ApplicationEventPublisher eventPublisher;
+    Clock clock;
 
     @Transactional
     public void createEmergency(CreateEmergencyRequest request, UserDetailsImpl client) {
@@ -114,6 +122,36 @@ public class EmergencyService {
         paramedicSearchService.findParamedicForEmergency(emergency);
     }
 
+    @Transactional
+    public void cancelCurrentEmergency(UserDetailsImpl client) {
+        UUID clientId = client.getAccountId();
+        log.debug("Cancelling current emergency for client: {}", clientId);
+
+        // locked so a concurrent assignment commits first and its paramedic is not overwritten by this save
+        Emergency emergency = emergencyRepository.findByClientIdAndStatusForUpdate(clientId, EmergencyStatus.ONGOING)
+            .orElseThrow(() -> {
+                log.error(LOG_NO_ONGOING_EMERGENCY_FOUND_FOR_CLIENT, clientId);
+                return new EntityNotFoundException(EXCEPTION_NO_ONGOING_EMERGENCY_FOUND);
+            });
+        emergency.setStatus(EmergencyStatus.CANCELLED);
+        emergencyRepository.save(emergency);
+
+        if (!emergencySnapshotRepository.close(emergency.getId().toString(), emergency.getStatus(), clock.instant())) {
+            log.error("Emergency [{}] snapshot not found", emergency.getId());
+            throw new EntityNotFoundException("Emergency snapshot not found");
+        }
+
+        paramedicSearchService.cancelSearch(emergency.getId());
+        UUID paramedicId = emergency.getParamedicId();
+        TransactionUtils.runAfterCommit(() -> {
+            if (paramedicId != null) {
+                busyParamedicRegistry.release(paramedicId);
+            }
+            eventPublisher.publishEvent(new EmergencyClosedEvent(emergency.getId()));
+        });
+        log.info("Emergency [{}] cancelled by client {}", emergency.getId(), clientId);
+    }
+
     public List<EmergencySymptomListDto> getSymptomsForCurrentEmergency(UserDetailsImpl client) {
         UUID clientId = client.getAccountId();
         log.debug("Fetching current emergency symptoms for client: {}", clientId);
@@ -0,0 +1,49 @@
+package com.ifortex.internship.emergencyservice.service;
+
+import com.ifortex.internship.emergencyservice.dto.request.UpdateParamedicLocationRequest;
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicLocationBuffer;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ParamedicLocationService {
+
+    ParamedicLocationBuffer paramedicLocationBuffer;
+    ApplicationEventPublisher eventPublisher;
+    Clock clock;
+
+    public void updateLocation(UUID paramedicId, UpdateParamedicLocationRequest request) {
+        reportLocation(paramedicId, GeoPoint.of(request.latitude(), request.longitude()), clock.instant());
+    }
+
+    /**
+     * Accepts a location report. The position is buffered for the next batch write and published right
+     * away so in-memory indexes and pending searches see it immediately. A report recorded before one
+     * already buffered is dropped, and a device clock running ahead is capped at server time.
+     */
+    public void reportLocation(UUID paramedicId, GeoPoint point, Instant recordedAt) {
+        Instant now = clock.instant();
+        ParamedicPosition position = new ParamedicPosition(paramedicId, point, recordedAt.isAfter(now) ? now : recordedAt);
+        if (!paramedicLocationBuffer.offer(position)) {
+            log.debug("Dropping out-of-order location of paramedic [{}] recorded at {}", paramedicId, recordedAt);
+            return;
+        }
+        log.debug("Paramedic [{}] reported location ({}, {})", paramedicId, point.latitude(), point.longitude());
+        eventPublisher.publishEvent(
+            new ParamedicLocationChangedEvent(paramedicId, point.latitude(), point.longitude(), position.updatedAt()));
+    }
+}
@@ -1,38 +1,70 @@
 package com.ifortex.internship.emergencyservice.service;
 
-import com.ifortex.internship.emergencyservice.model.ParamedicLocation;
+import com.ifortex.internship.emergencyservice.event.EmergencyClosedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicReleasedEvent;
+import com.ifortex.internship.emergencyservice.event.PendingSearchesClaimedEvent;
+import com.ifortex.internship.emergencyservice.jfr.DispatchAttemptEvent;
+import com.ifortex.internship.emergencyservice.jfr.ParamedicAssignmentEvent;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
 import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
 import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
 import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
 import com.ifortex.internship.emergencyservice.model.emergency.EmergencyAssignment;
 import com.ifortex.internship.emergencyservice.model.emergency.EmergencyLocation;
+import com.ifortex.internship.emergencyservice.model.emergency.PendingSearchRecord;
 import com.ifortex.internship.emergencyservice.model.snapshot.EmergencyAssignmentSnapshot;
 import com.ifortex.internship.emergencyservice.model.snapshot.EmergencySnapshot;
 import com.ifortex.internship.emergencyservice.repository.EmergencyAssignmentRepository;
 import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
 import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
 import com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepository;
-import com.ifortex.internship.emergencyservice.repository.ParamedicLocationRepository;
+import com.ifortex.internship.emergencyservice.repository.PendingSearchRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.BatchAssignmentOptimizer;
+import com.ifortex.internship.emergencyservice.service.dispatch.BusyParamedicRegistry;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchCoordinator;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMetrics;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMode;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchProperties;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicCandidateCache;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicCandidateFinder;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicLocator;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import com.ifortex.internship.emergencyservice.service.dispatch.PendingSearch;
+import com.ifortex.internship.emergencyservice.service.dispatch.SearchAreaIndex;
+import com.ifortex.internship.emergencyservice.service.dispatch.SearchRadiusPolicy;
 import com.ifortex.internship.emergencyservice.util.EmergencyAssignmentMapper;
 import com.ifortex.internship.emergencyservice.util.EmergencyLocationMapper;
+import com.ifortex.internship.emergencyservice.util.PendingSearchMapper;
+import com.ifortex.internship.emergencyservice.util.TransactionUtils;
 import com.ifortex.internship.medstarter.exception.custom.EntityNotFoundException;
 import com.ifortex.internship.medstarter.exception.custom.InternalServiceException;
-import jakarta.transaction.Transactional;
+import jakarta.annotation.PostConstruct;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Slf4j
 @Service
@@ -43,64 +75,406 @@ public class ParamedicSearchService {
     static final int MAX_ATTEMPTS = 3;
     static final Duration BASE_DELAY = Duration.ofMinutes(1);
     static final Duration EXTENDED_SEARCH_DURATION = Duration.ofMinutes(20);
+    static final Duration CONTENTION_DELAY = Duration.ofSeconds(1);
+    static final String OUTCOME_COMPLETED = "completed";
+    static final String OUTCOME_UNMATCHED = "unmatched";
+    static final String OUTCOME_FAILED = "failed";
 
     EmergencyRepository emergencyRepository;
     EmergencyLocationMapper emergencyLocationMapper;
     EmergencyAssignmentMapper emergencyAssignmentMapper;
     EmergencySnapshotRepository emergencySnapshotRepository;
-    ParamedicLocationRepository paramedicLocationRepository;
     EmergencyLocationRepository emergencyLocationRepository;
     EmergencyAssignmentRepository emergencyAssignmentRepository;
+    TransactionTemplate transactionTemplate;
+    @Qualifier("dispatchTaskScheduler") TaskScheduler dispatchTaskScheduler;
+    ParamedicLocator paramedicLocator;
+    PendingSearchRepository pendingSearchRepository;
+    PendingSearchMapper pendingSearchMapper;
+    DispatchMetrics dispatchMetrics;
+    ParamedicCandidateCache paramedicCandidateCache;
+    ParamedicCandidateFinder paramedicCandidateFinder;
+    SearchRadiusPolicy searchRadiusPolicy;
+    BusyParamedicRegistry busyParamedicRegistry;
+    Clock clock;
+    DispatchCoordinator dispatchCoordinator;
+    ApplicationEventPublisher eventPublisher;
+    DispatchProperties dispatchProperties;
+    Map<UUID, PendingSearch> pendingSearches = new ConcurrentHashMap<>();
+    SearchAreaIndex pendingSearchAreas = new SearchAreaIndex();
+    Queue<BatchEntry> batchQueue = new ConcurrentLinkedQueue<>();
+
+    @PostConstruct
+    void bindMetrics() {
+        dispatchMetrics.bindActiveSearches(pendingSearches);
+    }
 
-    @Value("${app.default_radius_km}") double defaultRadius;
-
-    @Async
-    @Transactional
     public void findParamedicForEmergency(Emergency emergency) {
-        BigDecimal latitude = getLatitude(emergency);
-        BigDecimal longitude = getLongitude(emergency);
-
-        log.info("Starting paramedic search for emergency [{}], location: ({}, {})", emergency.getId(), latitude, longitude);
-
-        double radius = defaultRadius;
-        for (int i = 0; i < MAX_ATTEMPTS; i++) {
-            log.debug("Attempt {}: searching paramedic within radius {} km", i + 1, radius);
-            Optional<ParamedicLocation> found = paramedicLocationRepository.findNearestAvailableParamedicInRadius(latitude, longitude, radius);
-            if (found.isPresent()) {
-                log.info("Paramedic {} found on attempt {} within radius {}", found.get().getParamedicId(), i + 1, radius);
-                assign(found.get(), emergency);
-                return;
+        GeoPoint location = GeoPoint.of(getLatitude(emergency), getLongitude(emergency));
+        PendingSearch search = new PendingSearch()
+            .setEmergencyId(emergency.getId())
+            .setLocation(location)
+            .setRadiusKm(searchRadiusPolicy.initialRadiusKm(location))
+            .setStartedAt(clock.instant());
+
+        log.info("Starting paramedic search for emergency [{}], location: ({}, {}), radius {} km", emergency.getId(),
+            location.latitude(), location.longitude(), search.getRadiusKm());
+        saveProgress(search, search.getStartedAt());
+        dispatchCoordinator.acquire(search.getEmergencyId());
+        TransactionUtils.runAfterCommit(() -> {
+            pendingSearches.put(search.getEmergencyId(), search);
+            trackArea(search);
+            dispatchMetrics.searchStarted();
+            schedule(search, clock.instant());
+        });
+    }
+
+    public void cancelSearch(UUID emergencyId) {
+        pendingSearchRepository.deleteById(emergencyId);
+        dispatchCoordinator.cancel(emergencyId);
+        TransactionUtils.runAfterCommit(() -> {
+            PendingSearch search = forget(emergencyId);
+            if (search != null) {
+                search.cancel();
+                dispatchMetrics.searchCancelled();
+                log.info("Paramedic search for emergency [{}] cancelled", emergencyId);
+            }
+        });
+    }
+
+    @EventListener
+    public void onParamedicLocationChanged(ParamedicLocationChangedEvent event) {
+        if (!busyParamedicRegistry.isAvailable(event.paramedicId())) {
+            return;
+        }
+        paramedicCandidateCache.invalidateAround(event.paramedicId(), event.latitude(), event.longitude());
+        rematch(event.paramedicId(), event.latitude(), event.longitude());
+    }
+
+    @EventListener
+    public void onParamedicReleased(ParamedicReleasedEvent event) {
+        paramedicLocator.findPosition(event.paramedicId()).ifPresentOrElse(position -> {
+            GeoPoint point = position.point();
+            paramedicCandidateCache.invalidateAround(event.paramedicId(), point.latitude(), point.longitude());
+            rematch(event.paramedicId(), point.latitude(), point.longitude());
+        }, paramedicCandidateCache::invalidateAll);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingSearches() {
+        List<PendingSearchRecord> records = dispatchCoordinator.claimPendingSearches();
+        resume(records);
+        log.info("Resumed {} pending paramedic search(es)", records.size());
+    }
+
+    @EventListener
+    public void onPendingSearchesClaimed(PendingSearchesClaimedEvent event) {
+        List<PendingSearchRecord> records = new ArrayList<>(pendingSearchRepository.findAllById(event.emergencyIds()));
+        records.sort(Comparator.comparing(PendingSearchRecord::getNextAttemptAt));
+        resume(records);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBatchDispatch() {
+        if (dispatchProperties.mode() == DispatchMode.BATCH) {
+            Duration tick = dispatchProperties.batch().tick();
+            log.info("Batch dispatch enabled with tick {}", tick);
+            dispatchTaskScheduler.scheduleWithFixedDelay(this::runBatchTick, tick);
+        }
+    }
+
+    private void resume(List<PendingSearchRecord> records) {
+        for (PendingSearchRecord record : records) {
+            PendingSearch search = pendingSearchMapper.toPendingSearch(record);
+            if (pendingSearches.putIfAbsent(search.getEmergencyId(), search) == null) {
+                trackArea(search);
+                schedule(search, record.getNextAttemptAt());
+            }
+        }
+    }
+
+    private void rematch(UUID paramedicId, double latitude, double longitude) {
+        pendingSearchAreas.covering(latitude, longitude).stream()
+            .map(pendingSearches::get)
+            .filter(search -> search != null && !search.isAttemptInProgress())
+            .min(Comparator.comparing(PendingSearch::getStartedAt))
+            .ifPresent(search -> {
+                log.debug("Paramedic {} is within search radius of pending emergency [{}]. Trying immediate assignment",
+                    paramedicId, search.getEmergencyId());
+                if (dispatchProperties.mode() == DispatchMode.BATCH) {
+                    batchQueue.add(new BatchEntry(search, false));
+                } else {
+                    dispatchTaskScheduler.schedule(() -> runTriggeredAttempt(search), clock.instant());
+                }
+            });
+    }
+
+    private void runScheduledAttempt(PendingSearch search) {
+        if (search.isCancelled() || !isOwned(search)) {
+            return;
+        }
+        if (dispatchProperties.mode() == DispatchMode.BATCH) {
+            batchQueue.add(new BatchEntry(search, true));
+            return;
+        }
+        if (!search.tryStartAttempt()) {
+            schedule(search, clock.instant().plus(CONTENTION_DELAY));
+            return;
+        }
+        DispatchAttemptEvent attemptEvent = beginAttemptEvent("scheduled");
+        String outcome = OUTCOME_FAILED;
+        try {
+            Instant nextAttemptAt = transactionTemplate.execute(status -> attempt(search));
+            if (nextAttemptAt != null) {
+                schedule(search, nextAttemptAt);
+                outcome = OUTCOME_UNMATCHED;
+            } else {
+                forget(search.getEmergencyId());
+                outcome = OUTCOME_COMPLETED;
+            }
+        } catch (RuntimeException e) {
+            handleAttemptFailure(search, true, e);
+        } finally {
+            search.finishAttempt();
+            commitAttemptEvent(attemptEvent, search, outcome);
+        }
+    }
+
+    private void runTriggeredAttempt(PendingSearch search) {
+        if (search.isCancelled() || !isOwned(search) || !search.tryStartAttempt()) {
+            return;
+        }
+        DispatchAttemptEvent attemptEvent = beginAttemptEvent("triggered");
+        String outcome = OUTCOME_FAILED;
+        try {
+            Boolean finished = transactionTemplate.execute(status -> {
+                Emergency emergency = startAttempt(search, false);
+                if (emergency == null || tryAssign(search, emergency)) {
+                    complete(search);
+                    return true;
+                }
+                return false;
+            });
+            if (Boolean.TRUE.equals(finished)) {
+                forget(search.getEmergencyId());
+                outcome = OUTCOME_COMPLETED;
+            } else {
+                outcome = OUTCOME_UNMATCHED;
             }
-            log.debug("No paramedic found on attempt {}. Retrying after delay...", i + 1);
-            sleep(BASE_DELAY);
+        } catch (RuntimeException e) {
+            handleAttemptFailure(search, false, e);
+        } finally {
+            search.finishAttempt();
+            commitAttemptEvent(attemptEvent, search, outcome);
         }
+    }
 
-        radius *= 2;
-        Instant timeout = Instant.now().plus(EXTENDED_SEARCH_DURATION);
-        log.info("Switching to extended search. Radius increased to {}. Emergency [{}]", radius, emergency.getId());
+    private void runBatchTick() {
+        Map<UUID, BatchEntry> due = new LinkedHashMap<>();
+        for (BatchEntry entry = batchQueue.poll(); entry != null; entry = batchQueue.poll()) {
+            due.merge(entry.search().getEmergencyId(), entry, (current, next) -> current.scheduled() ? current : next);
+        }
+        if (due.isEmpty()) {
+            return;
+        }
 
-        while (Instant.now().isBefore(timeout)) {
-            log.debug("Extended search: trying to find paramedic within radius {} km. Emergency [{}]", radius, emergency.getId());
-            Optional<ParamedicLocation> found = paramedicLocationRepository.findNearestAvailableParamedicInRadius(latitude, longitude, radius);
-            if (found.isPresent()) {
-                log.info("Paramedic {} found during extended search", found.get().getParamedicId());
-                assign(found.get(), emergency);
-                return;
+        List<BatchAttempt> started = new ArrayList<>();
+        List<BatchAssignmentOptimizer.Demand> demands = new ArrayList<>();
+        for (BatchEntry entry : due.values()) {
+            PendingSearch search = entry.search();
+            if (search.isCancelled() || !isOwned(search)) {
+                continue;
+            }
+            if (!search.tryStartAttempt()) {
+                if (entry.scheduled()) {
+                    schedule(search, clock.instant().plus(CONTENTION_DELAY));
+                }
+                continue;
+            }
+            DispatchAttemptEvent attemptEvent = beginAttemptEvent("batch");
+            try {
+                List<ParamedicPosition> candidates = transactionTemplate.execute(status -> prepareBatchAttempt(entry));
+                if (candidates == null) {
+                    complete(search);
+                    forget(search.getEmergencyId());
+                    search.finishAttempt();
+                    commitAttemptEvent(attemptEvent, search, OUTCOME_COMPLETED);
+                    continue;
+                }
+                started.add(new BatchAttempt(entry, attemptEvent));
+                demands.add(new BatchAssignmentOptimizer.Demand(search.getEmergencyId(), search.getLocation(), candidates));
+            } catch (RuntimeException e) {
+                handleAttemptFailure(search, entry.scheduled(), e);
+                search.finishAttempt();
+                commitAttemptEvent(attemptEvent, search, OUTCOME_FAILED);
+            }
+        }
+
+        Map<UUID, ParamedicPosition> matches = BatchAssignmentOptimizer.assign(demands);
+        log.debug("Batch tick matched {} of {} pending emergencies", matches.size(), demands.size());
+
+        for (BatchAttempt attempt : started) {
+            BatchEntry entry = attempt.entry();
+            PendingSearch search = entry.search();
+            String outcome = OUTCOME_FAILED;
+            try {
+                ParamedicPosition match = matches.get(search.getEmergencyId());
+                if (match != null && Boolean.TRUE.equals(transactionTemplate.execute(status -> assignIfWaiting(search, match)))) {
+                    forget(search.getEmergencyId());
+                    outcome = OUTCOME_COMPLETED;
+                } else {
+                    if (entry.scheduled()) {
+                        Instant nextAttemptAt = nextAttemptAt(search);
+                        saveProgress(search, nextAttemptAt);
+                        schedule(search, nextAttemptAt);
+                    }
+                    outcome = OUTCOME_UNMATCHED;
+                }
+            } catch (RuntimeException e) {
+                handleAttemptFailure(search, entry.scheduled(), e);
+            } finally {
+                search.finishAttempt();
+                commitAttemptEvent(attempt.event(), search, outcome);
             }
-            sleep(BASE_DELAY);
         }
+    }
+
+    private DispatchAttemptEvent beginAttemptEvent(String trigger) {
+        DispatchAttemptEvent attemptEvent = new DispatchAttemptEvent();
+        attemptEvent.trigger = trigger;
+        attemptEvent.begin();
+        return attemptEvent;
+    }
 
+    private void commitAttemptEvent(DispatchAttemptEvent attemptEvent, PendingSearch search, String outcome) {
+        attemptEvent.end();
+        if (attemptEvent.shouldCommit()) {
+            attemptEvent.emergencyId = search.getEmergencyId().toString();
+            attemptEvent.attempt = search.getAttempt();
+            attemptEvent.radiusKm = search.getRadiusKm();
+            attemptEvent.outcome = outcome;
+            attemptEvent.commit();
+        }
+    }
+
+    private void handleAttemptFailure(PendingSearch search, boolean scheduled, RuntimeException e) {
+        if (!scheduled) {
+            log.error("Event-triggered paramedic search failed for emergency [{}]", search.getEmergencyId(), e);
+            return;
+        }
+        if (search.isExtended() && !clock.instant().isBefore(search.getExtendedDeadline())) {
+            log.error("Paramedic search for emergency [{}] failed after its deadline, giving up", search.getEmergencyId(), e);
+            forget(search.getEmergencyId());
+            return;
+        }
+        log.error("Paramedic search attempt failed for emergency [{}]. Retrying after delay...", search.getEmergencyId(), e);
+        schedule(search, clock.instant().plus(BASE_DELAY));
+    }
+
+    private Instant attempt(PendingSearch search) {
+        Emergency emergency = startAttempt(search, true);
+        if (emergency == null || tryAssign(search, emergency)) {
+            complete(search);
+            return null;
+        }
+        Instant nextAttemptAt = nextAttemptAt(search);
+        saveProgress(search, nextAttemptAt);
+        return nextAttemptAt;
+    }
+
+    private List<ParamedicPosition> prepareBatchAttempt(BatchEntry entry) {
+        PendingSearch search = entry.search();
+        Emergency emergency = startAttempt(search, entry.scheduled());
+        if (emergency == null) {
+            return null;
+        }
+        return paramedicCandidateFinder.findCandidates(search);
+    }
+
+    private boolean assignIfWaiting(PendingSearch search, ParamedicPosition paramedicPosition) {
+        Emergency emergency = findWaitingEmergency(search);
+        if (emergency == null) {
+            return true;
+        }
+        if (!paramedicCandidateFinder.claim(paramedicPosition, emergency.getId())) {
+            return false;
+        }
+        log.info("Paramedic {} matched in batch within radius {}. Emergency [{}]", paramedicPosition.paramedicId(),
+            search.getRadiusKm(), emergency.getId());
+        assign(paramedicPosition, emergency);
+        recordAssignment(search);
+        complete(search);
+        return true;
+    }
+
+    private Emergency startAttempt(PendingSearch search, boolean scheduled) {
+        Emergency emergency = findWaitingEmergency(search);
+        if (emergency == null || !scheduled) {
+            return emergency;
+        }
+        if (search.isExtended() && !clock.instant().isBefore(search.getExtendedDeadline())) {
+            handOverToReserveTeam(emergency);
+            return null;
+        }
+        search.setAttempt(search.getAttempt() + 1);
+        log.debug("Attempt {}: searching paramedic within radius {} km. Emergency [{}]", search.getAttempt(), search.getRadiusKm(), emergency.getId());
+        return emergency;
+    }
+
+    private Instant nextAttemptAt(PendingSearch search) {
+        Instant nextAttemptAt = clock.instant().plus(BASE_DELAY);
+        boolean extending = !search.isExtended() && search.getAttempt() >= MAX_ATTEMPTS;
+        double radius = searchRadiusPolicy.nextRadiusKm(search, extending);
+        if (extending) {
+            search.setRadiusKm(radius).setExtendedDeadline(nextAttemptAt.plus(EXTENDED_SEARCH_DURATION));
+            trackArea(search);
+            dispatchMetrics.searchExtended();
+            log.info("Switching to extended search. Radius increased to {}. Emergency [{}]", search.getRadiusKm(), search.getEmergencyId());
+        } else if (radius != search.getRadiusKm()) {
+            search.setRadiusKm(radius);
+            trackArea(search);
+            log.debug("Search radius increased to {}. Emergency [{}]", radius, search.getEmergencyId());
+        }
+        log.debug("No paramedic found on attempt {}. Next attempt at {}. Emergency [{}]", search.getAttempt(), nextAttemptAt, search.getEmergencyId());
+        return nextAttemptAt;
+    }
+
+    private Emergency findWaitingEmergency(PendingSearch search) {
+        UUID emergencyId = search.getEmergencyId();
+        Emergency emergency = emergencyRepository.findByIdForUpdate(emergencyId).orElse(null);
+        if (emergency == null || emergency.getStatus() != EmergencyStatus.ONGOING || emergency.getParamedicId() != null) {
+            log.info("Stopping paramedic search for emergency [{}]: it is no longer waiting for a paramedic", emergencyId);
+            return null;
+        }
+        return emergency;
+    }
+
+    private boolean tryAssign(PendingSearch search, Emergency emergency) {
+        List<ParamedicPosition> candidates = paramedicCandidateFinder.findCandidates(search);
+        for (ParamedicPosition candidate : candidates) {
+            if (paramedicCandidateFinder.claim(candidate, emergency.getId())) {
+                log.info("Paramedic {} found on attempt {} within radius {}", candidate.paramedicId(), search.getAttempt(), search.getRadiusKm());
+                assign(candidate, emergency);
+                recordAssignment(search);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void handOverToReserveTeam(Emergency emergency) {
         emergency.setStatus(EmergencyStatus.RESERVE_HANDLED);
         emergencyRepository.save(emergency);
 
-        var emergencySnapshot = emergencySnapshotRepository.findById(emergency.getId().toString())
-            .orElseThrow(() -> {
-                log.error("Emergency [{}] not found", emergency.getId());
-                return new EntityNotFoundException(String.format("Emergency [%s] not found", emergency.getId()));
-            });
+        if (!emergencySnapshotRepository.close(emergency.getId().toString(), emergency.getStatus(), clock.instant())) {
+            log.error("Emergency [{}] not found", emergency.getId());
+            throw new EntityNotFoundException(String.format("Emergency [%s] not found", emergency.getId()));
+        }
 
-        emergencySnapshot.setStatus(emergency.getStatus()).setClosedAt(Instant.now());
-        emergencySnapshotRepository.save(emergencySnapshot);
+        TransactionUtils.runAfterCommit(() -> {
+            dispatchMetrics.reserveHandled();
+            eventPublisher.publishEvent(new EmergencyClosedEvent(emergency.getId()));
+        });
 
         // todo notificationService.notifyReserveTeam(emergency);
 
@@ -108,45 +482,105 @@ public class ParamedicSearchService {
             EXTENDED_SEARCH_DURATION.toMinutes());
     }
 
-    private void assign(ParamedicLocation paramedicLocation, Emergency emergency) {
-        UUID paramedicId = paramedicLocation.getParamedicId();
+    private void recordAssignment(PendingSearch search) {
+        Duration timeToAssign = Duration.between(search.getStartedAt(), clock.instant());
+        int attempts = search.getAttempt();
+        double radiusKm = search.getRadiusKm();
+        TransactionUtils.runAfterCommit(() -> dispatchMetrics.paramedicAssigned(timeToAssign, attempts, radiusKm));
+    }
+
+    private void saveProgress(PendingSearch search, Instant nextAttemptAt) {
+        pendingSearchRepository.save(pendingSearchMapper.toRecord(search, nextAttemptAt));
+    }
+
+    private void complete(PendingSearch search) {
+        pendingSearchRepository.deleteById(search.getEmergencyId());
+        dispatchCoordinator.release(search.getEmergencyId());
+    }
+
+    private boolean isOwned(PendingSearch search) {
+        if (dispatchCoordinator.owns(search.getEmergencyId())) {
+            return true;
+        }
+        log.info("Paramedic search for emergency [{}] is now owned by another node, dropping it", search.getEmergencyId());
+        forget(search.getEmergencyId());
+        return false;
+    }
+
+    private PendingSearch forget(UUID emergencyId) {
+        paramedicCandidateCache.remove(emergencyId);
+        pendingSearchAreas.remove(emergencyId);
+        return pendingSearches.remove(emergencyId);
+    }
+
+    private void trackArea(PendingSearch search) {
+        if (pendingSearches.get(search.getEmergencyId()) != search) {
+            return;
+        }
+        pendingSearchAreas.put(search.getEmergencyId(), search.getLocation(), search.getRadiusKm());
+    }
+
+    private void schedule(PendingSearch search, Instant at) {
+        search.scheduled(dispatchTaskScheduler.schedule(() -> runScheduledAttempt(search), at));
+    }
+
+    private void assign(ParamedicPosition paramedicPosition, Emergency emergency) {
+        UUID paramedicId = paramedicPosition.paramedicId();
         UUID emergencyId = emergency.getId();
         log.info("Assigning paramedic {} to emergency {}", paramedicId, emergencyId);
 
-        updateEmergencyWithParamedic(paramedicLocation, emergency);
-        EmergencyAssignment assignment = createAndSaveAssignment(paramedicLocation, emergency);
-        List<EmergencyLocation> emergencyLocations = createAndSaveEmergencyLocations(paramedicLocation, emergency);
+        ParamedicAssignmentEvent assignmentEvent = new ParamedicAssignmentEvent();
+        assignmentEvent.begin();
+        long started = System.nanoTime();
+        updateEmergencyWithParamedic(paramedicPosition, emergency);
+        long emergencyUpdated = System.nanoTime();
+        EmergencyAssignment assignment = createAndSaveAssignment(paramedicPosition, emergency);
+        long assignmentSaved = System.nanoTime();
+        List<EmergencyLocation> emergencyLocations = createAndSaveEmergencyLocations(paramedicPosition, emergency);
+        long locationsSaved = System.nanoTime();
         updateEmergencySnapshot(emergency, assignment, emergencyLocations);
+        long snapshotUpdated = System.nanoTime();
+        assignmentEvent.end();
+        if (assignmentEvent.shouldCommit()) {
+            assignmentEvent.emergencyId = emergencyId.toString();
+            assignmentEvent.paramedicId = paramedicId.toString();
+            assignmentEvent.emergencyUpdateNanos = emergencyUpdated - started;
+            assignmentEvent.assignmentInsertNanos = assignmentSaved - emergencyUpdated;
+            assignmentEvent.locationsInsertNanos = locationsSaved - assignmentSaved;
+            assignmentEvent.snapshotUpdateNanos = snapshotUpdated - locationsSaved;
+            assignmentEvent.commit();
+        }
+        TransactionUtils.runAfterCommit(() -> busyParamedicRegistry.markBusy(paramedicId));
 
         //todo: notificationService.notifyParamedic(paramedicId, emergency);
 
         log.info("Paramedic {} assigned to emergency {} with accepted and current location saved", paramedicId, emergencyId);
     }
 
-    private void updateEmergencyWithParamedic(ParamedicLocation paramedicLocation, Emergency emergency) {
+    private void updateEmergencyWithParamedic(ParamedicPosition paramedicPosition, Emergency emergency) {
         log.debug("Deleting existing PARAMEDIC_CURRENT locations for emergency {}", emergency.getId());
         emergencyLocationRepository.deleteByEmergencyIdAndLocationType(emergency.getId(), EmergencyLocationType.PARAMEDIC_CURRENT);
 
-        emergency.setParamedicId(paramedicLocation.getParamedicId());
+        emergency.setParamedicId(paramedicPosition.paramedicId());
         emergencyRepository.save(emergency);
-        log.debug("Updated emergency {} with paramedic {}", emergency.getId(), paramedicLocation.getParamedicId());
+        log.debug("Updated emergency {} with paramedic {}", emergency.getId(), paramedicPosition.paramedicId());
     }
 
-    private EmergencyAssignment createAndSaveAssignment(ParamedicLocation paramedicLocation, Emergency emergency) {
-        log.debug("Creating assignment for paramedic {} and emergency {}", paramedicLocation.getParamedicId(), emergency.getId());
+    private EmergencyAssignment createAndSaveAssignment(ParamedicPosition paramedicPosition, Emergency emergency) {
+        log.debug("Creating assignment for paramedic {} and emergency {}", paramedicPosition.paramedicId(), emergency.getId());
         EmergencyAssignment assignment = new EmergencyAssignment()
-            .setParamedicId(paramedicLocation.getParamedicId())
+            .setParamedicId(paramedicPosition.paramedicId())
             .setEmergency(emergency);
         emergencyAssignmentRepository.save(assignment);
         log.debug("Assignment created for emergency {} with id {}", emergency.getId(), assignment.getId());
         return assignment;
     }
 
-    private List<EmergencyLocation> createAndSaveEmergencyLocations(ParamedicLocation paramedicLocation, Emergency emergency) {
-        log.debug("Building emergency locations for paramedic {} and emergency {}", paramedicLocation.getParamedicId(), emergency.getId());
+    private List<EmergencyLocation> createAndSaveEmergencyLocations(ParamedicPosition paramedicPosition, Emergency emergency) {
+        log.debug("Building emergency locations for paramedic {} and emergency {}", paramedicPosition.paramedicId(), emergency.getId());
         List<EmergencyLocation> emergencyLocations = List.of(
-            buildEmergencyLocation(emergency, paramedicLocation, EmergencyLocationType.PARAMEDIC_ACCEPTED),
-            buildEmergencyLocation(emergency, paramedicLocation, EmergencyLocationType.PARAMEDIC_CURRENT)
+            buildEmergencyLocation(emergency, paramedicPosition, EmergencyLocationType.PARAMEDIC_ACCEPTED),
+            buildEmergencyLocation(emergency, paramedicPosition, EmergencyLocationType.PARAMEDIC_CURRENT)
         );
         emergencyLocationRepository.saveAll(emergencyLocations);
         log.debug("Saved {} emergency locations for emergency {}", emergencyLocations.size(), emergency.getId());
@@ -179,21 +613,13 @@ public class ParamedicSearchService {
     }
 
     private EmergencyLocation buildEmergencyLocation(Emergency emergency,
-                                                     ParamedicLocation location,
+                                                     ParamedicPosition position,
                                                      EmergencyLocationType type) {
         return new EmergencyLocation()
             .setEmergency(emergency)
             .setLocationType(type)
-            .setLatitude(location.getLatitude())
-            .setLongitude(location.getLongitude());
-    }
-
-    private void sleep(Duration duration) {
-        try {
-            Thread.sleep(duration.toMillis());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+            .setLatitude(position.point().latitudeDecimal())
+            .setLongitude(position.point().longitudeDecimal());
     }
 
     private BigDecimal getLatitude(Emergency emergency) {
@@ -218,4 +644,10 @@ public class ParamedicSearchService {
                 return new InternalServiceException("User location not found in emergency");
             });
     }
-}
\ No newline at end of file
+
+    private record BatchEntry(PendingSearch search, boolean scheduled) {
+    }
+
+    private record BatchAttempt(BatchEntry entry, DispatchAttemptEvent event) {
+    }
+}
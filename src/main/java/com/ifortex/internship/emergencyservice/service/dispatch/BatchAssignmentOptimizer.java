@@ -0,0 +1,62 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Solves one dispatch tick as a single min-cost matching of emergencies to free paramedics,
+ * where the cost of a pair is the straight-line distance. Pairs that are not in an emergency's
+ * candidate list are priced so high that they are only chosen when nothing else is possible,
+ * and are dropped from the result.
+ */
+public final class BatchAssignmentOptimizer {
+
+    static final double UNREACHABLE_COST = 1.0e9;
+
+    private BatchAssignmentOptimizer() {
+    }
+
+    public static Map<UUID, ParamedicPosition> assign(List<Demand> demands) {
+        Map<UUID, Integer> columnByParamedic = new LinkedHashMap<>();
+        List<ParamedicPosition> paramedics = new ArrayList<>();
+        for (Demand demand : demands) {
+            for (ParamedicPosition candidate : demand.candidates()) {
+                if (columnByParamedic.putIfAbsent(candidate.paramedicId(), paramedics.size()) == null) {
+                    paramedics.add(candidate);
+                }
+            }
+        }
+        if (paramedics.isEmpty()) {
+            return Map.of();
+        }
+
+        double[][] cost = new double[demands.size()][paramedics.size()];
+        for (int row = 0; row < demands.size(); row++) {
+            Arrays.fill(cost[row], UNREACHABLE_COST);
+            Demand demand = demands.get(row);
+            for (ParamedicPosition candidate : demand.candidates()) {
+                cost[row][columnByParamedic.get(candidate.paramedicId())] = demand.location().distanceKm(candidate.point());
+            }
+        }
+
+        int[] assignment = MinCostAssignment.solve(cost);
+        Map<UUID, ParamedicPosition> result = new HashMap<>();
+        for (int row = 0; row < assignment.length; row++) {
+            int column = assignment[row];
+            if (column >= 0 && cost[row][column] < UNREACHABLE_COST) {
+                result.put(demands.get(row).emergencyId(), paramedics.get(column));
+            }
+        }
+        return result;
+    }
+
+    public record Demand(UUID emergencyId, GeoPoint location, List<ParamedicPosition> candidates) {
+    }
+}
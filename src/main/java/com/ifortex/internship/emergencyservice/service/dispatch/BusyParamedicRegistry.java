@@ -0,0 +1,116 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.event.ParamedicReleasedEvent;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory view of which paramedics are on an ongoing emergency, kept current by assignments and
+ * emergency closures so dispatch can skip busy paramedics without querying the emergency table.
+ * It is loaded from the database on startup and periodically compared against it to repair drift.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BusyParamedicRegistry {
+
+    EmergencyRepository emergencyRepository;
+    ApplicationEventPublisher eventPublisher;
+    DispatchMetrics dispatchMetrics;
+    @Qualifier("dispatchTaskScheduler") TaskScheduler dispatchTaskScheduler;
+    Set<UUID> busyParamedics = ConcurrentHashMap.newKeySet();
+    AtomicLong version = new AtomicLong();
+    Object lock = new Object();
+
+    @Value("${app.dispatch.busy.drift-check-interval}") Duration driftCheckInterval;
+
+    @PostConstruct
+    void rebuild() {
+        busyParamedics.addAll(emergencyRepository.findParamedicIdsByStatus(EmergencyStatus.ONGOING));
+        dispatchMetrics.bindBusyParamedics(busyParamedics);
+        log.info("Busy paramedic registry loaded with {} paramedic(s)", busyParamedics.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startDriftCheck() {
+        dispatchTaskScheduler.scheduleWithFixedDelay(this::checkDrift, driftCheckInterval);
+    }
+
+    public boolean isBusy(UUID paramedicId) {
+        return busyParamedics.contains(paramedicId);
+    }
+
+    public boolean isAvailable(UUID paramedicId) {
+        return !busyParamedics.contains(paramedicId);
+    }
+
+    public int size() {
+        return busyParamedics.size();
+    }
+
+    public void markBusy(UUID paramedicId) {
+        synchronized (lock) {
+            busyParamedics.add(paramedicId);
+            version.incrementAndGet();
+        }
+    }
+
+    public void release(UUID paramedicId) {
+        boolean released;
+        synchronized (lock) {
+            released = busyParamedics.remove(paramedicId);
+            version.incrementAndGet();
+        }
+        if (released) {
+            log.debug("Paramedic {} is available again", paramedicId);
+            eventPublisher.publishEvent(new ParamedicReleasedEvent(paramedicId));
+        }
+    }
+
+    public void checkDrift() {
+        long versionBefore = version.get();
+        Set<UUID> actual = emergencyRepository.findParamedicIdsByStatus(EmergencyStatus.ONGOING);
+
+        List<UUID> missing = new ArrayList<>();
+        List<UUID> stale = new ArrayList<>();
+        synchronized (lock) {
+            if (version.get() != versionBefore) {
+                log.debug("Busy paramedics changed during drift check, skipping this round");
+                return;
+            }
+            actual.stream().filter(busyParamedics::add).forEach(missing::add);
+            busyParamedics.stream().filter(paramedicId -> !actual.contains(paramedicId)).toList().forEach(paramedicId -> {
+                busyParamedics.remove(paramedicId);
+                stale.add(paramedicId);
+            });
+        }
+
+        if (!missing.isEmpty() || !stale.isEmpty()) {
+            log.warn("Busy paramedic registry drifted from the database: {} missing, {} stale. Repaired",
+                missing.size(), stale.size());
+            dispatchMetrics.busyRegistryDrift(missing.size() + stale.size());
+            stale.forEach(paramedicId -> eventPublisher.publishEvent(new ParamedicReleasedEvent(paramedicId)));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sizes the search radius from how many available paramedics with a fresh position are around the emergency.
+ * The first radius is the smallest doubling of {@code min-km} that covers {@code target-paramedics},
+ * and each expansion grows only until it reaches paramedics the previous radius did not cover.
+ * Both are capped at {@code max-km}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.dispatch.radius.policy", havingValue = "density")
+public class DensitySearchRadiusPolicy implements SearchRadiusPolicy {
+
+    ParamedicLocator paramedicLocator;
+
+    @Value("${app.dispatch.radius.min-km}") double minRadius;
+    @Value("${app.dispatch.radius.max-km}") double maxRadius;
+    @Value("${app.dispatch.radius.target-paramedics}") int targetParamedics;
+
+    @Override
+    public double initialRadiusKm(GeoPoint origin) {
+        double[] distances = paramedicLocator.availableDistances(origin, maxRadius);
+        double radius = minRadius;
+        while (radius < maxRadius && countWithin(distances, radius) < targetParamedics) {
+            radius = Math.min(radius * 2, maxRadius);
+        }
+        log.debug("Initial search radius {} km around {}", radius, origin);
+        return radius;
+    }
+
+    @Override
+    public double nextRadiusKm(PendingSearch search, boolean extending) {
+        double[] distances = paramedicLocator.availableDistances(search.getLocation(), maxRadius);
+        double current = search.getRadiusKm();
+        int covered = countWithin(distances, current);
+        double radius = current;
+        do {
+            radius = Math.min(radius * 2, maxRadius);
+        } while (radius < maxRadius && countWithin(distances, radius) <= covered);
+
+        if (!extending && countWithin(distances, radius) <= covered) {
+            return current;
+        }
+        return radius;
+    }
+
+    private static int countWithin(double[] sortedDistances, double radiusKm) {
+        int low = 0;
+        int high = sortedDistances.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedDistances[middle] <= radiusKm) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
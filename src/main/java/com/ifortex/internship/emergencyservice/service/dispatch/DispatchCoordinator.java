@@ -0,0 +1,35 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.emergency.PendingSearchRecord;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Decides which service instance runs which pending paramedic search.
+ */
+public interface DispatchCoordinator {
+
+    /**
+     * Takes ownership of a search that is being started. Called inside the transaction that stores it.
+     */
+    void acquire(UUID emergencyId);
+
+    boolean owns(UUID emergencyId);
+
+    /**
+     * Gives up ownership of a finished or cancelled search. Called inside the transaction that removes it.
+     */
+    void release(UUID emergencyId);
+
+    /**
+     * Ends a cancelled search whichever instance runs it, so its owner drops it on the next renewal.
+     * Called inside the transaction that cancels it.
+     */
+    void cancel(UUID emergencyId);
+
+    /**
+     * Stored searches that no instance is running and that this instance takes over, oldest due first.
+     */
+    List<PendingSearchRecord> claimPendingSearches();
+}
@@ -0,0 +1,160 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class DispatchMetrics {
+
+    MeterRegistry meterRegistry;
+    Counter startedSearches;
+    Counter cancelledSearches;
+    Counter candidateCacheHits;
+    Counter candidateCacheMisses;
+    Counter busyRegistryRepairs;
+    Counter evictedLocations;
+    Counter flushedLocations;
+    Counter extendedSearches;
+    Counter reserveHandledSearches;
+    Timer timeToAssign;
+    Timer timeToArrive;
+    DistributionSummary assignmentAttempts;
+    DistributionSummary assignmentRadius;
+
+    public DispatchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.startedSearches = Counter.builder("dispatch.searches.started")
+            .description("Paramedic searches started")
+            .register(meterRegistry);
+        this.cancelledSearches = Counter.builder("dispatch.searches.cancelled")
+            .description("Paramedic searches cancelled before a paramedic was assigned")
+            .register(meterRegistry);
+        this.candidateCacheHits = Counter.builder("dispatch.candidates.cache")
+            .description("Candidate lookups served from the per-emergency candidate cache")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.candidateCacheMisses = Counter.builder("dispatch.candidates.cache")
+            .description("Candidate lookups that had to query the paramedic locator")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.busyRegistryRepairs = Counter.builder("dispatch.busy.drift")
+            .description("Busy paramedic registry entries repaired by the drift check")
+            .register(meterRegistry);
+        this.evictedLocations = Counter.builder("dispatch.locations.evicted")
+            .description("Paramedic positions dropped from in-memory indexes after exceeding the location TTL")
+            .register(meterRegistry);
+        this.flushedLocations = Counter.builder("dispatch.locations.flushed")
+            .description("Buffered paramedic positions written to the database")
+            .register(meterRegistry);
+        this.extendedSearches = Counter.builder("dispatch.searches.extended")
+            .description("Paramedic searches that switched to the extended phase")
+            .register(meterRegistry);
+        this.reserveHandledSearches = Counter.builder("dispatch.searches.reserve_handled")
+            .description("Emergencies handed over to the reserve team after the extended search ran out")
+            .register(meterRegistry);
+        this.timeToAssign = Timer.builder("dispatch.assignment.time")
+            .description("Time from the start of a paramedic search until a paramedic was assigned")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(100))
+            .maximumExpectedValue(Duration.ofMinutes(30))
+            .register(meterRegistry);
+        this.timeToArrive = Timer.builder("dispatch.arrival.time")
+            .description("Time from the creation of an emergency until the assigned paramedic reached the initiator")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMinutes(1))
+            .maximumExpectedValue(Duration.ofHours(2))
+            .register(meterRegistry);
+        this.assignmentAttempts = DistributionSummary.builder("dispatch.assignment.attempts")
+            .description("Scheduled search attempts made before a paramedic was assigned")
+            .serviceLevelObjectives(1, 2, 3, 5, 10)
+            .register(meterRegistry);
+        this.assignmentRadius = DistributionSummary.builder("dispatch.assignment.radius")
+            .description("Search radius at the moment a paramedic was assigned")
+            .baseUnit("kilometers")
+            .serviceLevelObjectives(2, 5, 10, 20, 40)
+            .register(meterRegistry);
+    }
+
+    public void bindActiveSearches(Map<?, ?> pendingSearches) {
+        Gauge.builder("dispatch.searches.active", pendingSearches, Map::size)
+            .description("Paramedic searches currently waiting for a paramedic")
+            .register(meterRegistry);
+    }
+
+    public void bindBusyParamedics(Set<?> busyParamedics) {
+        Gauge.builder("dispatch.paramedics.busy", busyParamedics, Set::size)
+            .description("Paramedics currently assigned to an ongoing emergency")
+            .register(meterRegistry);
+    }
+
+    public void bindBufferedLocations(Map<?, ?> bufferedLocations) {
+        Gauge.builder("dispatch.locations.buffered", bufferedLocations, Map::size)
+            .description("Reported paramedic positions waiting to be written to the database")
+            .register(meterRegistry);
+    }
+
+    public void searchStarted() {
+        startedSearches.increment();
+    }
+
+    public void searchCancelled() {
+        cancelledSearches.increment();
+    }
+
+    public void candidateCacheHit() {
+        candidateCacheHits.increment();
+    }
+
+    public void candidateCacheMiss() {
+        candidateCacheMisses.increment();
+    }
+
+    public void busyRegistryDrift(int repaired) {
+        busyRegistryRepairs.increment(repaired);
+    }
+
+    public void locationsEvicted(int evicted) {
+        evictedLocations.increment(evicted);
+    }
+
+    public void locationsFlushed(int flushed) {
+        flushedLocations.increment(flushed);
+    }
+
+    public void searchExtended() {
+        extendedSearches.increment();
+    }
+
+    public void reserveHandled() {
+        reserveHandledSearches.increment();
+    }
+
+    public void paramedicAssigned(Duration timeToAssign, int attempts, double radiusKm) {
+        this.timeToAssign.record(timeToAssign);
+        assignmentAttempts.record(attempts);
+        assignmentRadius.record(radiusKm);
+    }
+
+    public void paramedicArrived(Duration responseTime) {
+        timeToArrive.record(responseTime);
+    }
+
+    public Timer locatorQueryTimer(String locator) {
+        return Timer.builder("dispatch.locator.query")
+            .description("Latency of nearest available paramedic lookups")
+            .tag("locator", locator)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,6 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+public enum DispatchMode {
+    GREEDY,
+    BATCH
+}
@@ -0,0 +1,15 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Dispatch settings under {@code app.dispatch} that drive the paramedic search itself.
+ */
+@ConfigurationProperties("app.dispatch")
+public record DispatchProperties(DispatchMode mode, int candidates, Duration locationTtl, Batch batch) {
+
+    public record Batch(Duration tick) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Predicts travel time as straight-line distance stretched by a detour factor over the speed learned
+ * for the cell at the middle of the route and the current hour. The {@link SpeedProfile} is rebuilt
+ * periodically from recorded paramedic tracks and swapped in whole; until the first build every cell
+ * uses the default speed, which ranks candidates by distance as before. Hours are read in the zone of the
+ * injected clock, both when learning and when ranking.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EtaEstimator {
+
+    EmergencyLocationRepository emergencyLocationRepository;
+    @Qualifier("dispatchTaskScheduler") TaskScheduler dispatchTaskScheduler;
+    Clock clock;
+    AtomicReference<SpeedProfile> profile = new AtomicReference<>();
+
+    @Value("${app.dispatch.eta.cell-size-km}") double cellSizeKm;
+    @Value("${app.dispatch.eta.default-speed-kmh}") double defaultSpeedKmh;
+    @Value("${app.dispatch.eta.detour-factor}") double detourFactor;
+    @Value("${app.dispatch.eta.history}") Duration history;
+    @Value("${app.dispatch.eta.refresh-interval}") Duration refreshInterval;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startLearning() {
+        dispatchTaskScheduler.scheduleWithFixedDelay(this::refresh, refreshInterval);
+    }
+
+    public void refresh() {
+        try {
+            SpeedProfile.Builder builder = SpeedProfile.builder(cellSizeKm, defaultSpeedKmh, clock.getZone());
+            TrackPoint[] previous = new TrackPoint[1];
+            emergencyLocationRepository.forEachTrackPointSince(clock.instant().minus(history), point -> {
+                if (previous[0] != null) {
+                    builder.addSegment(previous[0], point);
+                }
+                previous[0] = point;
+            });
+            SpeedProfile learned = builder.build();
+            profile.set(learned);
+            log.info("Speed profile rebuilt from {} track segment(s) over {} cell(s) of {} km",
+                builder.segments(), learned.cells(), learned.cellSizeKm());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild speed profile, keeping the previous one", e);
+        }
+    }
+
+    public double estimateSeconds(GeoPoint from, GeoPoint to, int hour) {
+        double latitude = (from.latitude() + to.latitude()) / 2;
+        double longitude = (from.longitude() + to.longitude()) / 2;
+        return from.distanceKm(to) * detourFactor / speedKmh(latitude, longitude, hour) * 3600;
+    }
+
+    /**
+     * Candidates ordered by predicted travel time to the target, fastest first. The list is as short as the
+     * candidate limit, so an insertion sort over primitive arrays is used; it keeps the locator's order
+     * for equal estimates.
+     */
+    public List<ParamedicPosition> rank(List<ParamedicPosition> candidates, GeoPoint target) {
+        int size = candidates.size();
+        if (size < 2) {
+            return candidates;
+        }
+        int hour = clock.instant().atZone(clock.getZone()).getHour();
+        double[] etas = new double[size];
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            double eta = estimateSeconds(candidates.get(i).point(), target, hour);
+            int slot = i;
+            for (; slot > 0 && etas[slot - 1] > eta; slot--) {
+                etas[slot] = etas[slot - 1];
+                order[slot] = order[slot - 1];
+            }
+            etas[slot] = eta;
+            order[slot] = i;
+        }
+        List<ParamedicPosition> ranked = new ArrayList<>(size);
+        for (int i : order) {
+            ranked.add(candidates.get(i));
+        }
+        return ranked;
+    }
+
+    private float speedKmh(double latitude, double longitude, int hour) {
+        SpeedProfile current = profile.get();
+        return current != null ? current.speedKmh(latitude, longitude, hour) : (float) defaultSpeedKmh;
+    }
+}
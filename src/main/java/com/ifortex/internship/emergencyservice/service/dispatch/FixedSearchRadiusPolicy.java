@@ -0,0 +1,28 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.dispatch.radius.policy", havingValue = "fixed", matchIfMissing = true)
+public class FixedSearchRadiusPolicy implements SearchRadiusPolicy {
+
+    @Value("${app.default_radius_km}") double defaultRadius;
+
+    @Override
+    public double initialRadiusKm(GeoPoint origin) {
+        return defaultRadius;
+    }
+
+    @Override
+    public double nextRadiusKm(PendingSearch search, boolean extending) {
+        return extending ? search.getRadiusKm() * 2 : search.getRadiusKm();
+    }
+}
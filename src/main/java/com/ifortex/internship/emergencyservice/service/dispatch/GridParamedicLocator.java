@@ -0,0 +1,54 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.dispatch.locator", havingValue = "grid")
+public class GridParamedicLocator implements ParamedicLocator {
+
+    ParamedicGridIndex paramedicGridIndex;
+    BusyParamedicRegistry busyParamedicRegistry;
+    Clock clock;
+
+    @Value("${app.dispatch.location-ttl}") Duration locationTtl;
+
+    @Override
+    public List<ParamedicPosition> findNearestAvailable(GeoPoint origin, double radiusKm, int limit) {
+        log.debug("Grid lookup within {} km of {}, {} paramedic(s) busy", radiusKm, origin, busyParamedicRegistry.size());
+
+        return paramedicGridIndex
+            .findNearest(origin.latitude(), origin.longitude(), radiusKm, limit, busyParamedicRegistry::isAvailable)
+            .stream()
+            .map(ParamedicPosition::of)
+            .toList();
+    }
+
+    @Override
+    public Optional<ParamedicPosition> findPosition(UUID paramedicId) {
+        return paramedicGridIndex.get(paramedicId).map(ParamedicPosition::of);
+    }
+
+    @Override
+    public double[] availableDistances(GeoPoint origin, double radiusKm) {
+        Instant freshSince = clock.instant().minus(locationTtl);
+        return paramedicGridIndex.distancesWithin(origin.latitude(), origin.longitude(), radiusKm, entry ->
+            !entry.updatedAt().isBefore(freshSince) && busyParamedicRegistry.isAvailable(entry.paramedicId()));
+    }
+}
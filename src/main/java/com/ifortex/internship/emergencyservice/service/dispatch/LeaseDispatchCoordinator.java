@@ -0,0 +1,123 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.event.PendingSearchesClaimedEvent;
+import com.ifortex.internship.emergencyservice.model.emergency.PendingSearchRecord;
+import com.ifortex.internship.emergencyservice.repository.DispatchLeaseRepository;
+import com.ifortex.internship.emergencyservice.repository.PendingSearchRepository;
+import com.ifortex.internship.emergencyservice.util.TransactionUtils;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Multi instance deployment: every pending search is owned through an expiring row in dispatch_lease.
+ * The owner renews its leases periodically and drops searches whose lease was taken over. Searches of
+ * an instance that stopped renewing are picked up by the others once their leases expire.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.dispatch.coordination", havingValue = "lease")
+public class LeaseDispatchCoordinator implements DispatchCoordinator {
+
+    DispatchLeaseRepository dispatchLeaseRepository;
+    PendingSearchRepository pendingSearchRepository;
+    ApplicationEventPublisher eventPublisher;
+    @Qualifier("dispatchTaskScheduler") TaskScheduler dispatchTaskScheduler;
+    String nodeId = UUID.randomUUID().toString();
+    Set<UUID> leases = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.dispatch.lease.ttl}") Duration leaseTtl;
+    @Value("${app.dispatch.lease.renew-interval}") Duration renewInterval;
+    @Value("${app.dispatch.lease.takeover-batch}") int takeoverBatch;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRenewal() {
+        log.info("Dispatch leases held as node {} with ttl {}, renewed every {}", nodeId, leaseTtl, renewInterval);
+        dispatchTaskScheduler.scheduleWithFixedDelay(this::renewAndTakeOver, renewInterval);
+    }
+
+    @Override
+    public void acquire(UUID emergencyId) {
+        if (dispatchLeaseRepository.acquire(emergencyId, nodeId, leaseTtl.toSeconds()) == 1) {
+            TransactionUtils.runAfterCommit(() -> leases.add(emergencyId));
+        } else {
+            log.warn("Lease for emergency [{}] is held by another node, leaving the search to it", emergencyId);
+        }
+    }
+
+    @Override
+    public boolean owns(UUID emergencyId) {
+        return leases.contains(emergencyId);
+    }
+
+    @Override
+    public void release(UUID emergencyId) {
+        dispatchLeaseRepository.release(emergencyId, nodeId);
+        TransactionUtils.runAfterCommit(() -> leases.remove(emergencyId));
+    }
+
+    @Override
+    public void cancel(UUID emergencyId) {
+        dispatchLeaseRepository.deleteByEmergencyId(emergencyId);
+        TransactionUtils.runAfterCommit(() -> leases.remove(emergencyId));
+    }
+
+    @Override
+    public List<PendingSearchRecord> claimPendingSearches() {
+        List<PendingSearchRecord> records = new ArrayList<>(pendingSearchRepository.findAllById(claimUnleased()));
+        records.sort(Comparator.comparing(PendingSearchRecord::getNextAttemptAt));
+        return records;
+    }
+
+    public void renewAndTakeOver() {
+        try {
+            Set<UUID> held = Set.copyOf(leases);
+            dispatchLeaseRepository.renew(nodeId, leaseTtl.toSeconds());
+            Set<UUID> owned = new HashSet<>(dispatchLeaseRepository.findEmergencyIdsByOwnerId(nodeId));
+            List<UUID> lost = held.stream().filter(emergencyId -> !owned.contains(emergencyId)).toList();
+            if (!lost.isEmpty()) {
+                lost.forEach(leases::remove);
+                log.warn("Lost dispatch leases for {} search(es) to other nodes", lost.size());
+            }
+
+            List<UUID> claimed = claimUnleased();
+            if (!claimed.isEmpty()) {
+                log.info("Took over {} pending search(es) without a live lease", claimed.size());
+                eventPublisher.publishEvent(new PendingSearchesClaimedEvent(claimed));
+            }
+        } catch (RuntimeException e) {
+            log.error("Dispatch lease renewal failed", e);
+        }
+    }
+
+    private List<UUID> claimUnleased() {
+        List<UUID> claimed = new ArrayList<>();
+        for (UUID emergencyId : dispatchLeaseRepository.findUnleasedSearchIds(takeoverBatch)) {
+            if (dispatchLeaseRepository.acquire(emergencyId, nodeId, leaseTtl.toSeconds()) == 1) {
+                leases.add(emergencyId);
+                claimed.add(emergencyId);
+            }
+        }
+        return claimed;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.emergency.PendingSearchRecord;
+import com.ifortex.internship.emergencyservice.repository.PendingSearchRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Single instance deployment: this instance owns every search and resumes all of them on startup.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.dispatch.coordination", havingValue = "local", matchIfMissing = true)
+public class LocalDispatchCoordinator implements DispatchCoordinator {
+
+    PendingSearchRepository pendingSearchRepository;
+
+    @Override
+    public void acquire(UUID emergencyId) {
+    }
+
+    @Override
+    public boolean owns(UUID emergencyId) {
+        return true;
+    }
+
+    @Override
+    public void release(UUID emergencyId) {
+    }
+
+    @Override
+    public void cancel(UUID emergencyId) {
+    }
+
+    @Override
+    public List<PendingSearchRecord> claimPendingSearches() {
+        return pendingSearchRepository.findAllByOrderByNextAttemptAtAsc();
+    }
+}
@@ -0,0 +1,104 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import java.util.Arrays;
+
+/**
+ * Hungarian algorithm (shortest augmenting paths with potentials) for a rectangular cost matrix.
+ * Runs in O(n^2 * m) for n rows and m columns, n &lt;= m; wider-than-tall inputs are transposed.
+ */
+public final class MinCostAssignment {
+
+    private MinCostAssignment() {
+    }
+
+    /**
+     * @return for every row the index of the assigned column, or -1 when the row stays unassigned
+     */
+    public static int[] solve(double[][] cost) {
+        int rows = cost.length;
+        int columns = rows == 0 ? 0 : cost[0].length;
+        if (rows == 0 || columns == 0) {
+            int[] empty = new int[rows];
+            Arrays.fill(empty, -1);
+            return empty;
+        }
+        if (rows > columns) {
+            int[] byColumn = solve(transpose(cost));
+            int[] result = new int[rows];
+            Arrays.fill(result, -1);
+            for (int column = 0; column < byColumn.length; column++) {
+                if (byColumn[column] >= 0) {
+                    result[byColumn[column]] = column;
+                }
+            }
+            return result;
+        }
+
+        double[] rowPotential = new double[rows + 1];
+        double[] columnPotential = new double[columns + 1];
+        int[] rowOfColumn = new int[columns + 1];
+        int[] way = new int[columns + 1];
+
+        for (int row = 1; row <= rows; row++) {
+            rowOfColumn[0] = row;
+            int column = 0;
+            double[] minSlack = new double[columns + 1];
+            boolean[] used = new boolean[columns + 1];
+            Arrays.fill(minSlack, Double.POSITIVE_INFINITY);
+            do {
+                used[column] = true;
+                int currentRow = rowOfColumn[column];
+                double delta = Double.POSITIVE_INFINITY;
+                int nextColumn = 0;
+                for (int j = 1; j <= columns; j++) {
+                    if (used[j]) {
+                        continue;
+                    }
+                    double slack = cost[currentRow - 1][j - 1] - rowPotential[currentRow] - columnPotential[j];
+                    if (slack < minSlack[j]) {
+                        minSlack[j] = slack;
+                        way[j] = column;
+                    }
+                    if (minSlack[j] < delta) {
+                        delta = minSlack[j];
+                        nextColumn = j;
+                    }
+                }
+                for (int j = 0; j <= columns; j++) {
+                    if (used[j]) {
+                        rowPotential[rowOfColumn[j]] += delta;
+                        columnPotential[j] -= delta;
+                    } else {
+                        minSlack[j] -= delta;
+                    }
+                }
+                column = nextColumn;
+            } while (rowOfColumn[column] != 0);
+
+            do {
+                int previousColumn = way[column];
+                rowOfColumn[column] = rowOfColumn[previousColumn];
+                column = previousColumn;
+            } while (column != 0);
+        }
+
+        int[] result = new int[rows];
+        Arrays.fill(result, -1);
+        for (int j = 1; j <= columns; j++) {
+            if (rowOfColumn[j] != 0) {
+                result[rowOfColumn[j] - 1] = j - 1;
+            }
+        }
+        return result;
+    }
+
+    private static double[][] transpose(double[][] matrix) {
+        double[][] transposed = new double[matrix[0].length][matrix.length];
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                transposed[j][i] = matrix[i][j];
+            }
+        }
+        return transposed;
+    }
+}
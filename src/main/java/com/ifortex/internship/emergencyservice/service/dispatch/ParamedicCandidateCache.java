@@ -0,0 +1,123 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Ranked nearest-paramedic candidates kept per pending emergency, so falling back to the next-best
+ * paramedic does not repeat the locator query. A list is dropped when a paramedic moves or becomes
+ * free near its emergency, and a paramedic is struck from every list once it has been claimed. Lists are
+ * indexed by search area and by the paramedics they hold, so a move touches only the lists it affects.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ParamedicCandidateCache {
+
+    DispatchMetrics dispatchMetrics;
+    Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    SearchAreaIndex areas = new SearchAreaIndex();
+    Map<UUID, Set<UUID>> listings = new ConcurrentHashMap<>();
+    AtomicLong invalidations = new AtomicLong();
+
+    public List<ParamedicPosition> candidates(PendingSearch search, Supplier<List<ParamedicPosition>> loader) {
+        Entry cached = entries.get(search.getEmergencyId());
+        if (cached != null && cached.radiusKm() == search.getRadiusKm() && !cached.candidates().isEmpty()) {
+            dispatchMetrics.candidateCacheHit();
+            return cached.candidates();
+        }
+        dispatchMetrics.candidateCacheMiss();
+        long version = invalidations.get();
+        List<ParamedicPosition> loaded = List.copyOf(loader.get());
+        Entry entry = new Entry(search.getLocation(), search.getRadiusKm(), loaded);
+        entries.compute(search.getEmergencyId(), (emergencyId, previous) -> {
+            if (previous != null) {
+                unlist(emergencyId, previous);
+            }
+            list(emergencyId, entry);
+            return entry;
+        });
+        if (invalidations.get() != version) {
+            remove(search.getEmergencyId(), entry);
+        }
+        return loaded;
+    }
+
+    public void invalidateAround(UUID paramedicId, double latitude, double longitude) {
+        invalidations.incrementAndGet();
+        Set<UUID> stale = new HashSet<>(areas.covering(latitude, longitude));
+        Set<UUID> listing = listings.get(paramedicId);
+        if (listing != null) {
+            stale.addAll(listing);
+        }
+        stale.forEach(this::remove);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        List.copyOf(entries.keySet()).forEach(this::remove);
+    }
+
+    public void discard(UUID paramedicId) {
+        Set<UUID> listing = listings.remove(paramedicId);
+        if (listing != null) {
+            listing.forEach(emergencyId -> entries.computeIfPresent(emergencyId, (id, entry) -> entry.without(paramedicId)));
+        }
+    }
+
+    public void remove(UUID emergencyId) {
+        remove(emergencyId, null);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void remove(UUID emergencyId, Entry expected) {
+        entries.computeIfPresent(emergencyId, (id, entry) -> {
+            if (expected != null && entry != expected) {
+                return entry;
+            }
+            unlist(id, entry);
+            return null;
+        });
+    }
+
+    private void list(UUID emergencyId, Entry entry) {
+        areas.put(emergencyId, entry.origin(), entry.radiusKm());
+        for (ParamedicPosition candidate : entry.candidates()) {
+            listings.computeIfAbsent(candidate.paramedicId(), id -> ConcurrentHashMap.newKeySet()).add(emergencyId);
+        }
+    }
+
+    private void unlist(UUID emergencyId, Entry entry) {
+        areas.remove(emergencyId);
+        for (ParamedicPosition candidate : entry.candidates()) {
+            listings.computeIfPresent(candidate.paramedicId(), (id, emergencyIds) -> {
+                emergencyIds.remove(emergencyId);
+                return emergencyIds.isEmpty() ? null : emergencyIds;
+            });
+        }
+    }
+
+    private record Entry(GeoPoint origin, double radiusKm, List<ParamedicPosition> candidates) {
+
+        Entry without(UUID paramedicId) {
+            return new Entry(origin, radiusKm, candidates.stream()
+                .filter(candidate -> !candidate.paramedicId().equals(paramedicId))
+                .toList());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.repository.ParamedicClaimRepository;
+import com.ifortex.internship.emergencyservice.util.TransactionUtils;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Candidate lookup and claiming for one pending search. Candidates come from the candidate cache or the
+ * locator, skip paramedics that are busy or whose position has gone stale, and are ranked by predicted
+ * travel time. A claim is the conditional insert that decides which emergency gets a paramedic.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ParamedicCandidateFinder {
+
+    ParamedicLocator paramedicLocator;
+    ParamedicCandidateCache paramedicCandidateCache;
+    ParamedicClaimRepository paramedicClaimRepository;
+    BusyParamedicRegistry busyParamedicRegistry;
+    EtaEstimator etaEstimator;
+    Clock clock;
+    Timer locatorQueryTimer;
+    int candidateLimit;
+    Duration locationTtl;
+
+    public ParamedicCandidateFinder(ParamedicLocator paramedicLocator,
+                                    ParamedicCandidateCache paramedicCandidateCache,
+                                    ParamedicClaimRepository paramedicClaimRepository,
+                                    BusyParamedicRegistry busyParamedicRegistry,
+                                    EtaEstimator etaEstimator,
+                                    DispatchMetrics dispatchMetrics,
+                                    Clock clock,
+                                    DispatchProperties dispatchProperties) {
+        this.paramedicLocator = paramedicLocator;
+        this.paramedicCandidateCache = paramedicCandidateCache;
+        this.paramedicClaimRepository = paramedicClaimRepository;
+        this.busyParamedicRegistry = busyParamedicRegistry;
+        this.etaEstimator = etaEstimator;
+        this.clock = clock;
+        this.locatorQueryTimer = dispatchMetrics.locatorQueryTimer(ClassUtils.getUserClass(paramedicLocator).getSimpleName());
+        this.candidateLimit = dispatchProperties.candidates();
+        this.locationTtl = dispatchProperties.locationTtl();
+    }
+
+    public List<ParamedicPosition> findCandidates(PendingSearch search) {
+        Instant freshSince = clock.instant().minus(locationTtl);
+        List<ParamedicPosition> candidates = paramedicCandidateCache
+            .candidates(search, () -> locatorQueryTimer.record(() ->
+                paramedicLocator.findNearestAvailable(search.getLocation(), search.getRadiusKm(), candidateLimit)))
+            .stream()
+            .filter(candidate -> busyParamedicRegistry.isAvailable(candidate.paramedicId()))
+            .filter(candidate -> !candidate.updatedAt().isBefore(freshSince))
+            .toList();
+        return etaEstimator.rank(candidates, search.getLocation());
+    }
+
+    public boolean claim(ParamedicPosition paramedicPosition, UUID emergencyId) {
+        boolean claimed = paramedicClaimRepository.claim(paramedicPosition.paramedicId(), emergencyId) == 1;
+        TransactionUtils.runAfterCommit(() -> paramedicCandidateCache.discard(paramedicPosition.paramedicId()));
+        if (!claimed) {
+            log.debug("Paramedic {} was claimed by another emergency, trying next candidate. Emergency [{}]",
+                paramedicPosition.paramedicId(), emergencyId);
+        }
+        return claimed;
+    }
+}
@@ -0,0 +1,261 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Uniform lat/lon grid over paramedic positions. Nearest-neighbour queries walk
+ * rings of cells outward from the query point and stop as soon as no unvisited
+ * ring can hold anything closer than the best match found so far.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ParamedicGridIndex {
+
+    static final double MAX_LATITUDE_FOR_WIDTH = 89.0;
+
+    double cellSizeKm;
+    double cellSizeDegrees;
+    int longitudeCells;
+
+    Map<UUID, Entry> positions;
+    Map<Long, Set<UUID>> cells;
+    Supplier<Set<UUID>> cellFactory;
+
+    public ParamedicGridIndex(double cellSizeKm) {
+        this(cellSizeKm, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), ConcurrentHashMap::newKeySet);
+    }
+
+    private ParamedicGridIndex(double cellSizeKm, Map<UUID, Entry> positions, Map<Long, Set<UUID>> cells,
+                               Supplier<Set<UUID>> cellFactory) {
+        if (cellSizeKm <= 0) {
+            throw new IllegalArgumentException("Grid cell size must be positive");
+        }
+        this.cellSizeKm = cellSizeKm;
+        this.cellSizeDegrees = cellSizeKm / GeoUtils.KM_PER_DEGREE;
+        this.longitudeCells = (int) Math.ceil(360.0 / cellSizeDegrees);
+        this.positions = positions;
+        this.cells = cells;
+        this.cellFactory = cellFactory;
+    }
+
+    /**
+     * Grid backed by plain hash maps, for an owner that confines every read and write to one thread.
+     */
+    public static ParamedicGridIndex confined(double cellSizeKm) {
+        return new ParamedicGridIndex(cellSizeKm, new HashMap<>(), new HashMap<>(), HashSet::new);
+    }
+
+    public void upsert(UUID paramedicId, double latitude, double longitude, Instant updatedAt) {
+        long cell = cellKey(latitudeIndex(latitude), longitudeIndex(longitude));
+        positions.compute(paramedicId, (id, previous) -> {
+            if (previous != null && previous.cell() != cell) {
+                removeFromCell(previous.cell(), id);
+            }
+            if (previous == null || previous.cell() != cell) {
+                addToCell(cell, id);
+            }
+            return new Entry(id, latitude, longitude, updatedAt, cell);
+        });
+    }
+
+    public void remove(UUID paramedicId) {
+        positions.computeIfPresent(paramedicId, (id, previous) -> {
+            removeFromCell(previous.cell(), id);
+            return null;
+        });
+    }
+
+    public int evictOlderThan(Instant cutoff) {
+        AtomicInteger evicted = new AtomicInteger();
+        for (UUID paramedicId : List.copyOf(positions.keySet())) {
+            positions.computeIfPresent(paramedicId, (id, entry) -> {
+                if (!entry.updatedAt().isBefore(cutoff)) {
+                    return entry;
+                }
+                removeFromCell(entry.cell(), id);
+                evicted.incrementAndGet();
+                return null;
+            });
+        }
+        return evicted.get();
+    }
+
+    public Optional<Entry> get(UUID paramedicId) {
+        return Optional.ofNullable(positions.get(paramedicId));
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * Ascending distances to the paramedics within {@code radiusKm} of the point that pass the filter.
+     * Scans the covering cells, or every position when the index holds fewer entries than those cells.
+     */
+    public double[] distancesWithin(double latitude, double longitude, double radiusKm, Predicate<Entry> filter) {
+        int rings = Math.min((int) Math.ceil(radiusKm / minCellExtentKm(latitude, radiusKm)), longitudeCells / 2);
+        long coveringCells = (2L * rings + 1) * (2L * rings + 1);
+
+        double[] distances = new double[16];
+        int count = 0;
+        if (coveringCells > positions.size()) {
+            for (Entry entry : positions.values()) {
+                double distance = distanceIfAccepted(entry, latitude, longitude, radiusKm, filter);
+                if (distance >= 0) {
+                    distances = grow(distances, count);
+                    distances[count++] = distance;
+                }
+            }
+        } else {
+            int centerLat = latitudeIndex(latitude);
+            int centerLon = longitudeIndex(longitude);
+            for (int dLat = -rings; dLat <= rings; dLat++) {
+                for (int dLon = -rings; dLon <= rings; dLon++) {
+                    Set<UUID> ids = cellAt(centerLat + dLat, centerLon + dLon);
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (UUID id : ids) {
+                        Entry entry = positions.get(id);
+                        double distance = entry == null ? -1 : distanceIfAccepted(entry, latitude, longitude, radiusKm, filter);
+                        if (distance >= 0) {
+                            distances = grow(distances, count);
+                            distances[count++] = distance;
+                        }
+                    }
+                }
+            }
+        }
+        double[] result = Arrays.copyOf(distances, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    public Optional<Entry> findNearest(double latitude, double longitude, double radiusKm, Predicate<UUID> filter) {
+        return findNearest(latitude, longitude, radiusKm, 1, filter).stream().findFirst();
+    }
+
+    public List<Entry> findNearest(double latitude, double longitude, double radiusKm, int limit, Predicate<UUID> filter) {
+        int centerLat = latitudeIndex(latitude);
+        int centerLon = longitudeIndex(longitude);
+        double minCellKm = minCellExtentKm(latitude, radiusKm);
+        int maxRing = Math.min((int) Math.ceil(radiusKm / minCellKm) + 1, longitudeCells / 2 + 1);
+
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distanceKm).reversed());
+        for (int ring = 0; ring <= maxRing; ring++) {
+            double worstAccepted = nearest.size() < limit ? radiusKm : nearest.peek().distanceKm();
+            if ((ring - 1) * minCellKm > worstAccepted) {
+                break;
+            }
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                int step = Math.abs(dLat) == ring ? 1 : 2 * ring;
+                for (int dLon = -ring; dLon <= ring; dLon += step) {
+                    Set<UUID> ids = cellAt(centerLat + dLat, centerLon + dLon);
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (UUID id : ids) {
+                        Entry entry = positions.get(id);
+                        if (entry == null || !filter.test(id)) {
+                            continue;
+                        }
+                        double distance = GeoUtils.distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+                        if (distance > radiusKm) {
+                            continue;
+                        }
+                        if (nearest.size() < limit) {
+                            nearest.add(new Candidate(entry, distance));
+                        } else if (distance < nearest.peek().distanceKm()) {
+                            nearest.poll();
+                            nearest.add(new Candidate(entry, distance));
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Entry> result = new ArrayList<>(nearest.size());
+        while (!nearest.isEmpty()) {
+            result.add(nearest.poll().entry());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static double distanceIfAccepted(Entry entry, double latitude, double longitude, double radiusKm,
+                                             Predicate<Entry> filter) {
+        if (!filter.test(entry)) {
+            return -1;
+        }
+        double distance = GeoUtils.distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+        return distance <= radiusKm ? distance : -1;
+    }
+
+    private static double[] grow(double[] values, int size) {
+        return size < values.length ? values : Arrays.copyOf(values, values.length * 2);
+    }
+
+    private Set<UUID> cellAt(int latIndex, int lonIndex) {
+        if (latIndex < 0 || latIndex * cellSizeDegrees > 180.0) {
+            return null;
+        }
+        return cells.get(cellKey(latIndex, Math.floorMod(lonIndex, longitudeCells)));
+    }
+
+    private double minCellExtentKm(double latitude, double radiusKm) {
+        double farthestLatitude = Math.min(MAX_LATITUDE_FOR_WIDTH, Math.abs(latitude) + radiusKm / GeoUtils.KM_PER_DEGREE);
+        return cellSizeKm * Math.cos(Math.toRadians(farthestLatitude));
+    }
+
+    private void addToCell(long cell, UUID paramedicId) {
+        cells.compute(cell, (key, ids) -> {
+            Set<UUID> result = ids != null ? ids : cellFactory.get();
+            result.add(paramedicId);
+            return result;
+        });
+    }
+
+    private void removeFromCell(long cell, UUID paramedicId) {
+        cells.computeIfPresent(cell, (key, ids) -> {
+            ids.remove(paramedicId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private int latitudeIndex(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / cellSizeDegrees);
+    }
+
+    private int longitudeIndex(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / cellSizeDegrees), longitudeCells);
+    }
+
+    private static long cellKey(int latIndex, int lonIndex) {
+        return ((long) latIndex << 32) | (lonIndex & 0xFFFFFFFFL);
+    }
+
+    private record Candidate(Entry entry, double distanceKm) {
+    }
+
+    public record Entry(UUID paramedicId, double latitude, double longitude, Instant updatedAt, long cell) {
+    }
+}
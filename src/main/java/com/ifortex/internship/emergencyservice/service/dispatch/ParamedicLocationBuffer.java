@@ -0,0 +1,125 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.ParamedicLocation;
+import com.ifortex.internship.emergencyservice.repository.ParamedicLocationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for reported paramedic locations. Only the latest position per paramedic is kept,
+ * and the buffer is written to paramedic_location in one batch per flush interval. Until then the
+ * buffered positions are served to dispatch reads, which overlay them on what the database returns.
+ * A grid over the buffered positions keeps those radius reads from scanning the whole buffer.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ParamedicLocationBuffer {
+
+    static final double CELL_SIZE_KM = 2;
+
+    ParamedicLocationRepository paramedicLocationRepository;
+    DispatchMetrics dispatchMetrics;
+    @Qualifier("dispatchTaskScheduler") TaskScheduler dispatchTaskScheduler;
+    Map<UUID, ParamedicPosition> pending = new ConcurrentHashMap<>();
+    ParamedicGridIndex pendingIndex = new ParamedicGridIndex(CELL_SIZE_KM);
+    Object flushLock = new Object();
+
+    @Value("${app.locations.flush-interval}") Duration flushInterval;
+
+    @PostConstruct
+    void bindMetrics() {
+        dispatchMetrics.bindBufferedLocations(pending);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startFlushing() {
+        dispatchTaskScheduler.scheduleWithFixedDelay(this::flush, flushInterval);
+    }
+
+    /**
+     * Buffers the position unless a newer one is already buffered for the paramedic, returning whether it was taken.
+     */
+    public boolean offer(ParamedicPosition position) {
+        return pending.compute(position.paramedicId(), (paramedicId, buffered) -> {
+            if (buffered != null && position.updatedAt().isBefore(buffered.updatedAt())) {
+                return buffered;
+            }
+            pendingIndex.upsert(paramedicId, position.point().latitude(), position.point().longitude(), position.updatedAt());
+            return position;
+        }) == position;
+    }
+
+    public Optional<ParamedicPosition> get(UUID paramedicId) {
+        return Optional.ofNullable(pending.get(paramedicId));
+    }
+
+    public List<ParamedicPosition> findWithin(GeoPoint origin, double radiusKm) {
+        return pendingIndex.findNearest(origin.latitude(), origin.longitude(), radiusKm, Integer.MAX_VALUE, paramedicId -> true)
+            .stream()
+            .map(entry -> pending.get(entry.paramedicId()))
+            .filter(position -> position != null && origin.distanceKm(position.point()) <= radiusKm)
+            .toList();
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * Writes the buffered positions. A position is dropped from the buffer only if it was not replaced
+     * while the batch was written; on failure everything stays buffered for the next flush.
+     */
+    @PreDestroy
+    public void flush() {
+        synchronized (flushLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<ParamedicPosition> batch = List.copyOf(pending.values());
+            try {
+                paramedicLocationRepository.upsertAll(batch.stream().map(ParamedicLocationBuffer::toLocation).toList());
+            } catch (RuntimeException e) {
+                log.error("Failed to flush {} buffered paramedic location(s), keeping them for the next flush", batch.size(), e);
+                return;
+            }
+            batch.forEach(this::remove);
+            dispatchMetrics.locationsFlushed(batch.size());
+            log.debug("Flushed {} paramedic location(s)", batch.size());
+        }
+    }
+
+    private void remove(ParamedicPosition flushed) {
+        pending.computeIfPresent(flushed.paramedicId(), (paramedicId, buffered) -> {
+            if (buffered != flushed) {
+                return buffered;
+            }
+            pendingIndex.remove(paramedicId);
+            return null;
+        });
+    }
+
+    private static ParamedicLocation toLocation(ParamedicPosition position) {
+        return new ParamedicLocation(position.paramedicId(), position.point().latitudeDecimal(),
+            position.point().longitudeDecimal(), position.updatedAt());
+    }
+}
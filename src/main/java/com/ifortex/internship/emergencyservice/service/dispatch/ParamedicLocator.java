@@ -0,0 +1,19 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ParamedicLocator {
+
+    List<ParamedicPosition> findNearestAvailable(GeoPoint origin, double radiusKm, int limit);
+
+    Optional<ParamedicPosition> findPosition(UUID paramedicId);
+
+    /**
+     * Ascending distances in km to every free paramedic with a fresh position within {@code radiusKm}.
+     */
+    double[] availableDistances(GeoPoint origin, double radiusKm);
+}
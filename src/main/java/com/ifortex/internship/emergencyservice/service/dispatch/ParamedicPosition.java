@@ -0,0 +1,19 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.ParamedicLocation;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ParamedicPosition(UUID paramedicId, GeoPoint point, Instant updatedAt) {
+
+    public static ParamedicPosition of(ParamedicLocation location) {
+        return new ParamedicPosition(location.getParamedicId(),
+            GeoPoint.of(location.getLatitude(), location.getLongitude()), location.getUpdatedAt());
+    }
+
+    public static ParamedicPosition of(ParamedicGridIndex.Entry entry) {
+        return new ParamedicPosition(entry.paramedicId(), GeoPoint.of(entry.latitude(), entry.longitude()), entry.updatedAt());
+    }
+}
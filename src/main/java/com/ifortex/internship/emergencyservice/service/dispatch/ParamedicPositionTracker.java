@@ -0,0 +1,54 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.dispatch.locator", havingValue = "grid")
+public class ParamedicPositionTracker {
+
+    ParamedicGridIndex paramedicGridIndex;
+    DispatchMetrics dispatchMetrics;
+    @Qualifier("dispatchTaskScheduler") TaskScheduler dispatchTaskScheduler;
+    Clock clock;
+
+    @Value("${app.dispatch.location-ttl}") Duration locationTtl;
+    @Value("${app.dispatch.location-eviction-interval}") Duration evictionInterval;
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onParamedicLocationChanged(ParamedicLocationChangedEvent event) {
+        paramedicGridIndex.upsert(event.paramedicId(), event.latitude(), event.longitude(), event.updatedAt());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startEviction() {
+        dispatchTaskScheduler.scheduleWithFixedDelay(this::evictStale, evictionInterval);
+    }
+
+    private void evictStale() {
+        int evicted = paramedicGridIndex.evictOlderThan(clock.instant().minus(locationTtl));
+        if (evicted > 0) {
+            dispatchMetrics.locationsEvicted(evicted);
+            log.debug("Evicted {} paramedic position(s) older than {} from the grid index", evicted, locationTtl);
+        }
+    }
+}
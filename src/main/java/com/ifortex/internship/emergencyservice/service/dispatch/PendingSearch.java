@@ -0,0 +1,75 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Accessors(chain = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class PendingSearch {
+
+    UUID emergencyId;
+    GeoPoint location;
+    double radiusKm;
+    int attempt;
+    Instant extendedDeadline;
+    Instant startedAt;
+
+    @Getter(AccessLevel.NONE)
+    final AtomicBoolean attemptInProgress = new AtomicBoolean();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    volatile boolean cancelled;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    volatile ScheduledFuture<?> nextRun;
+
+    public boolean isExtended() {
+        return extendedDeadline != null;
+    }
+
+    public boolean tryStartAttempt() {
+        return attemptInProgress.compareAndSet(false, true);
+    }
+
+    public void finishAttempt() {
+        attemptInProgress.set(false);
+    }
+
+    public boolean isAttemptInProgress() {
+        return attemptInProgress.get();
+    }
+
+    public void scheduled(ScheduledFuture<?> nextRun) {
+        this.nextRun = nextRun;
+        if (cancelled && nextRun != null) {
+            nextRun.cancel(false);
+        }
+    }
+
+    public void cancel() {
+        cancelled = true;
+        ScheduledFuture<?> run = nextRun;
+        if (run != null) {
+            run.cancel(false);
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,121 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circular search areas keyed by emergency, looked up by a point they cover. Areas are grouped by
+ * radius and each group is gridded by origin with cells as tall as the radius, so a lookup probes
+ * only the few cells around the point in every group.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchAreaIndex {
+
+    Map<UUID, Area> areas = new ConcurrentHashMap<>();
+    Map<Double, Map<Long, Set<UUID>>> layers = new ConcurrentHashMap<>();
+
+    public void put(UUID emergencyId, GeoPoint origin, double radiusKm) {
+        if (radiusKm <= 0) {
+            throw new IllegalArgumentException("Search radius must be positive");
+        }
+        Area area = new Area(origin, radiusKm, cellKey(origin.latitude(), origin.longitude(), radiusKm));
+        areas.compute(emergencyId, (id, previous) -> {
+            if (previous != null) {
+                removeFromLayer(previous, id);
+            }
+            layers.computeIfAbsent(radiusKm, radius -> new ConcurrentHashMap<>())
+                .computeIfAbsent(area.cell(), cell -> ConcurrentHashMap.newKeySet())
+                .add(id);
+            return area;
+        });
+    }
+
+    public void remove(UUID emergencyId) {
+        areas.computeIfPresent(emergencyId, (id, previous) -> {
+            removeFromLayer(previous, id);
+            return null;
+        });
+    }
+
+    public List<UUID> covering(double latitude, double longitude) {
+        List<UUID> covering = new ArrayList<>();
+        layers.forEach((radiusKm, cells) -> {
+            double cellDegrees = radiusKm / GeoUtils.KM_PER_DEGREE;
+            int longitudeCells = longitudeCells(cellDegrees);
+            double farthestLatitude = Math.min(ParamedicGridIndex.MAX_LATITUDE_FOR_WIDTH, Math.abs(latitude) + cellDegrees);
+            double longitudeSpan = cellDegrees / Math.cos(Math.toRadians(farthestLatitude));
+            int longitudeRings = Math.min((int) Math.ceil(longitudeSpan * longitudeCells / 360.0), (longitudeCells - 1) / 2);
+            int latIndex = latitudeIndex(latitude, cellDegrees);
+            int lonIndex = longitudeIndex(longitude, cellDegrees);
+            for (int dLat = -1; dLat <= 1; dLat++) {
+                for (int dLon = -longitudeRings; dLon <= longitudeRings; dLon++) {
+                    Set<UUID> ids = cells.get(cellKey(latIndex + dLat, Math.floorMod(lonIndex + dLon, longitudeCells)));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (UUID id : ids) {
+                        Area area = areas.get(id);
+                        if (area != null && area.radiusKm() == radiusKm
+                            && area.origin().distanceKm(latitude, longitude) <= radiusKm) {
+                            covering.add(id);
+                        }
+                    }
+                }
+            }
+        });
+        return covering;
+    }
+
+    public int size() {
+        return areas.size();
+    }
+
+    private void removeFromLayer(Area area, UUID emergencyId) {
+        Map<Long, Set<UUID>> cells = layers.get(area.radiusKm());
+        if (cells == null) {
+            return;
+        }
+        cells.computeIfPresent(area.cell(), (cell, ids) -> {
+            ids.remove(emergencyId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static long cellKey(double latitude, double longitude, double radiusKm) {
+        double cellDegrees = radiusKm / GeoUtils.KM_PER_DEGREE;
+        return cellKey(latitudeIndex(latitude, cellDegrees), longitudeIndex(longitude, cellDegrees));
+    }
+
+    private static int latitudeIndex(double latitude, double cellDegrees) {
+        return (int) Math.floor((latitude + 90.0) / cellDegrees);
+    }
+
+    private static int longitudeIndex(double longitude, double cellDegrees) {
+        int longitudeCells = longitudeCells(cellDegrees);
+        return Math.floorMod((int) Math.floor((longitude + 180.0) * longitudeCells / 360.0), longitudeCells);
+    }
+
+    /**
+     * Longitude columns are narrowed to split the full circle evenly, so neighbours across the
+     * antimeridian are one column apart like any others.
+     */
+    private static int longitudeCells(double cellDegrees) {
+        return (int) Math.ceil(360.0 / cellDegrees);
+    }
+
+    private static long cellKey(int latIndex, int lonIndex) {
+        return ((long) latIndex << 32) | (lonIndex & 0xFFFFFFFFL);
+    }
+
+    private record Area(GeoPoint origin, double radiusKm, long cell) {
+    }
+}
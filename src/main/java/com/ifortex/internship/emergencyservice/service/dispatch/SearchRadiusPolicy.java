@@ -0,0 +1,18 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+
+/**
+ * Decides how far a paramedic search looks on its first attempt and after every attempt that
+ * found nobody.
+ */
+public interface SearchRadiusPolicy {
+
+    double initialRadiusKm(GeoPoint origin);
+
+    /**
+     * Radius for the attempt following a failed one. {@code extending} is set once, when the
+     * search runs out of regular attempts and moves to the extended search.
+     */
+    double nextRadiusKm(PendingSearch search, boolean extending);
+}
@@ -0,0 +1,225 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Paramedic positions split into square regions, each owned by one single-threaded shard worker.
+ * A shard's state is only ever touched by its own thread: position updates and lookups are posted
+ * to it as messages, and a lookup whose radius crosses into other regions is fanned out to their
+ * shards and merged by distance.
+ * <p>
+ * Every paramedic also has a home shard, picked by id, that remembers which region shard holds it.
+ * Updates go through the home shard, which forwards them to the region shard and drops the stale
+ * copy when the paramedic crosses into another region. Updates reach lookups after two hops, and
+ * a paramedic crossing regions can briefly be seen in both or neither of them.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ShardedParamedicIndex implements AutoCloseable {
+
+    double regionSizeDegrees;
+    int longitudeRegions;
+    Shard[] shards;
+
+    public ShardedParamedicIndex(int workers, double regionSizeKm, double cellSizeKm) {
+        if (workers <= 0 || regionSizeKm <= 0) {
+            throw new IllegalArgumentException("Shard workers and region size must be positive");
+        }
+        this.regionSizeDegrees = regionSizeKm / GeoUtils.KM_PER_DEGREE;
+        this.longitudeRegions = (int) Math.ceil(360.0 / regionSizeDegrees);
+        this.shards = new Shard[workers];
+        for (int i = 0; i < workers; i++) {
+            shards[i] = new Shard(i, ParamedicGridIndex.confined(cellSizeKm));
+        }
+    }
+
+    public void upsert(UUID paramedicId, double latitude, double longitude, Instant updatedAt) {
+        Shard target = shardFor(latitudeRegion(latitude), longitudeRegion(longitude));
+        homeOf(paramedicId).post(home -> {
+            Owner previous = home.owners.put(paramedicId, new Owner(target, updatedAt));
+            if (previous != null && previous.shard() != target) {
+                previous.shard().post(shard -> shard.index.remove(paramedicId));
+            }
+            target.post(shard -> shard.index.upsert(paramedicId, latitude, longitude, updatedAt));
+        });
+    }
+
+    public void remove(UUID paramedicId) {
+        homeOf(paramedicId).post(home -> {
+            Owner previous = home.owners.remove(paramedicId);
+            if (previous != null) {
+                previous.shard().post(shard -> shard.index.remove(paramedicId));
+            }
+        });
+    }
+
+    public int evictOlderThan(Instant cutoff) {
+        List<CompletableFuture<Integer>> replies = Arrays.stream(shards)
+            .map(home -> home.ask(shard -> {
+                int before = shard.owners.size();
+                shard.owners.entrySet().removeIf(owner -> {
+                    if (!owner.getValue().updatedAt().isBefore(cutoff)) {
+                        return false;
+                    }
+                    owner.getValue().shard().post(region -> region.index.remove(owner.getKey()));
+                    return true;
+                });
+                return before - shard.owners.size();
+            }))
+            .toList();
+        return replies.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    public int size() {
+        List<CompletableFuture<Integer>> replies = Arrays.stream(shards)
+            .map(home -> home.ask(shard -> shard.owners.size()))
+            .toList();
+        return replies.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    /**
+     * Waits until every update posted before the call has reached its region shard.
+     */
+    public void awaitUpdates() {
+        for (int hop = 0; hop < 2; hop++) {
+            CompletableFuture.allOf(Arrays.stream(shards)
+                .map(shard -> shard.ask(state -> null))
+                .toArray(CompletableFuture[]::new)).join();
+        }
+    }
+
+    public int workers() {
+        return shards.length;
+    }
+
+    public List<ParamedicGridIndex.Entry> findNearest(double latitude, double longitude, double radiusKm, int limit,
+                                                      Predicate<UUID> filter) {
+        List<CompletableFuture<List<ParamedicGridIndex.Entry>>> replies = shardsWithin(latitude, longitude, radiusKm).stream()
+            .map(shard -> shard.ask(state -> state.index.findNearest(latitude, longitude, radiusKm, limit, filter)))
+            .toList();
+
+        Map<UUID, ParamedicGridIndex.Entry> nearest = new LinkedHashMap<>();
+        replies.stream()
+            .map(CompletableFuture::join)
+            .flatMap(List::stream)
+            .sorted(Comparator.comparingDouble(entry -> GeoUtils.distanceKm(latitude, longitude, entry.latitude(), entry.longitude())))
+            .forEach(entry -> nearest.putIfAbsent(entry.paramedicId(), entry));
+        return nearest.values().stream().limit(limit).toList();
+    }
+
+    /**
+     * Asks the paramedic's home shard which region holds it and then that region for the position.
+     */
+    public Optional<ParamedicGridIndex.Entry> get(UUID paramedicId) {
+        Shard region = homeOf(paramedicId).ask(home -> {
+            Owner owner = home.owners.get(paramedicId);
+            return owner == null ? null : owner.shard();
+        }).join();
+        return region == null ? Optional.empty() : region.ask(shard -> shard.index.get(paramedicId)).join();
+    }
+
+    /**
+     * Ascending distances gathered from every shard the radius touches. A paramedic crossing between
+     * shards can be counted twice until the old shard drops it, which a density estimate tolerates.
+     */
+    public double[] distancesWithin(double latitude, double longitude, double radiusKm,
+                                    Predicate<ParamedicGridIndex.Entry> filter) {
+        List<CompletableFuture<double[]>> replies = shardsWithin(latitude, longitude, radiusKm).stream()
+            .map(shard -> shard.ask(state -> state.index.distancesWithin(latitude, longitude, radiusKm, filter)))
+            .toList();
+        double[] distances = replies.stream()
+            .map(CompletableFuture::join)
+            .flatMapToDouble(Arrays::stream)
+            .toArray();
+        Arrays.sort(distances);
+        return distances;
+    }
+
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.executor.shutdownNow();
+        }
+    }
+
+    private Set<Shard> shardsWithin(double latitude, double longitude, double radiusKm) {
+        double latitudeSpan = radiusKm / GeoUtils.KM_PER_DEGREE;
+        double maxAbsLatitude = Math.min(ParamedicGridIndex.MAX_LATITUDE_FOR_WIDTH, Math.abs(latitude) + latitudeSpan);
+        double longitudeSpan = latitudeSpan / Math.cos(Math.toRadians(maxAbsLatitude));
+
+        int fromLat = latitudeRegion(Math.max(-90.0, latitude - latitudeSpan));
+        int toLat = latitudeRegion(Math.min(90.0, latitude + latitudeSpan));
+        int fromLon = (int) Math.floor((longitude - longitudeSpan + 180.0) / regionSizeDegrees);
+        int toLon = Math.min(fromLon + longitudeRegions - 1, (int) Math.floor((longitude + longitudeSpan + 180.0) / regionSizeDegrees));
+
+        Set<Shard> involved = new LinkedHashSet<>();
+        for (int lat = fromLat; lat <= toLat && involved.size() < shards.length; lat++) {
+            for (int lon = fromLon; lon <= toLon && involved.size() < shards.length; lon++) {
+                involved.add(shardFor(lat, Math.floorMod(lon, longitudeRegions)));
+            }
+        }
+        return involved;
+    }
+
+    private Shard homeOf(UUID paramedicId) {
+        return shards[Math.floorMod(paramedicId.hashCode(), shards.length)];
+    }
+
+    private Shard shardFor(int latitudeRegion, int longitudeRegion) {
+        return shards[Math.floorMod(31 * latitudeRegion + longitudeRegion, shards.length)];
+    }
+
+    private int latitudeRegion(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / regionSizeDegrees);
+    }
+
+    private int longitudeRegion(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / regionSizeDegrees), longitudeRegions);
+    }
+
+    private record Owner(Shard shard, Instant updatedAt) {
+    }
+
+    private static final class Shard {
+
+        final ExecutorService executor;
+        final ParamedicGridIndex index;
+        final Map<UUID, Owner> owners = new HashMap<>();
+
+        Shard(int number, ParamedicGridIndex index) {
+            this.executor = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "dispatch-shard-" + number);
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.index = index;
+        }
+
+        void post(Consumer<Shard> message) {
+            executor.execute(() -> message.accept(this));
+        }
+
+        <T> CompletableFuture<T> ask(Function<Shard, T> message) {
+            return CompletableFuture.supplyAsync(() -> message.apply(this), executor);
+        }
+    }
+}
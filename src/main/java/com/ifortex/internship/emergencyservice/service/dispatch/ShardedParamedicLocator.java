@@ -0,0 +1,83 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.dispatch.locator", havingValue = "sharded")
+public class ShardedParamedicLocator implements ParamedicLocator {
+
+    ShardedParamedicIndex shardedParamedicIndex;
+    BusyParamedicRegistry busyParamedicRegistry;
+    DispatchMetrics dispatchMetrics;
+    @Qualifier("dispatchTaskScheduler") TaskScheduler dispatchTaskScheduler;
+    Clock clock;
+
+    @Value("${app.dispatch.location-ttl}") Duration locationTtl;
+    @Value("${app.dispatch.location-eviction-interval}") Duration evictionInterval;
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onParamedicLocationChanged(ParamedicLocationChangedEvent event) {
+        shardedParamedicIndex.upsert(event.paramedicId(), event.latitude(), event.longitude(), event.updatedAt());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startEviction() {
+        dispatchTaskScheduler.scheduleWithFixedDelay(this::evictStale, evictionInterval);
+    }
+
+    @Override
+    public List<ParamedicPosition> findNearestAvailable(GeoPoint origin, double radiusKm, int limit) {
+        log.debug("Sharded lookup within {} km of {}, {} paramedic(s) busy", radiusKm, origin, busyParamedicRegistry.size());
+
+        return shardedParamedicIndex
+            .findNearest(origin.latitude(), origin.longitude(), radiusKm, limit, busyParamedicRegistry::isAvailable)
+            .stream()
+            .map(ParamedicPosition::of)
+            .toList();
+    }
+
+    @Override
+    public Optional<ParamedicPosition> findPosition(UUID paramedicId) {
+        return shardedParamedicIndex.get(paramedicId).map(ParamedicPosition::of);
+    }
+
+    @Override
+    public double[] availableDistances(GeoPoint origin, double radiusKm) {
+        Instant freshSince = clock.instant().minus(locationTtl);
+        return shardedParamedicIndex.distancesWithin(origin.latitude(), origin.longitude(), radiusKm, entry ->
+            !entry.updatedAt().isBefore(freshSince) && busyParamedicRegistry.isAvailable(entry.paramedicId()));
+    }
+
+    private void evictStale() {
+        int evicted = shardedParamedicIndex.evictOlderThan(clock.instant().minus(locationTtl));
+        if (evicted > 0) {
+            dispatchMetrics.locationsEvicted(evicted);
+            log.debug("Evicted {} paramedic position(s) older than {} from the sharded index", evicted, locationTtl);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Average paramedic speed per grid cell and hour of day, held as one flat {@code float} array over the
+ * bounding box of the recorded tracks. Every slot is filled when the profile is built: a slot without
+ * samples falls back to the whole-day speed of its cell and then to the default speed, so a lookup is
+ * a bounds check and one array read. Hours are local to the zone the profile is built for, so a slot
+ * follows the city's rush hours across daylight saving changes.
+ */
+public final class SpeedProfile {
+
+    public static final int HOURS = 24;
+
+    private final double cellSizeDegrees;
+    private final float defaultSpeedKmh;
+    private final int minLatitudeIndex;
+    private final int minLongitudeIndex;
+    private final int rows;
+    private final int columns;
+    private final float[] speedsKmh;
+
+    private SpeedProfile(double cellSizeDegrees, float defaultSpeedKmh, int minLatitudeIndex, int minLongitudeIndex,
+                         int rows, int columns, float[] speedsKmh) {
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.defaultSpeedKmh = defaultSpeedKmh;
+        this.minLatitudeIndex = minLatitudeIndex;
+        this.minLongitudeIndex = minLongitudeIndex;
+        this.rows = rows;
+        this.columns = columns;
+        this.speedsKmh = speedsKmh;
+    }
+
+    public float speedKmh(double latitude, double longitude, int hour) {
+        int row = (int) Math.floor(latitude / cellSizeDegrees) - minLatitudeIndex;
+        int column = (int) Math.floor(longitude / cellSizeDegrees) - minLongitudeIndex;
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            return defaultSpeedKmh;
+        }
+        return speedsKmh[(row * columns + column) * HOURS + hour];
+    }
+
+    public int cells() {
+        return rows * columns;
+    }
+
+    public double cellSizeKm() {
+        return cellSizeDegrees * GeoUtils.KM_PER_DEGREE;
+    }
+
+    public static Builder builder(double cellSizeKm, double defaultSpeedKmh, ZoneId zone) {
+        return new Builder(cellSizeKm / GeoUtils.KM_PER_DEGREE, (float) defaultSpeedKmh, zone);
+    }
+
+    /**
+     * Accumulates distance and time of consecutive track points per cell and hour. The speed of a slot
+     * is total distance over total time, which weights long segments correctly, unlike a mean of
+     * segment speeds. When the tracks span more than {@link #MAX_CELLS} cells, neighbouring cells are
+     * merged by the smallest whole factor that fits, so a stray far-away point costs resolution rather
+     * than the whole profile.
+     */
+    public static final class Builder {
+
+        static final Duration MAX_SEGMENT_GAP = Duration.ofMinutes(2);
+        static final double MIN_SPEED_KMH = 3;
+        static final double MAX_SPEED_KMH = 160;
+        static final int MAX_CELLS = 1 << 16;
+
+        private final double cellSizeDegrees;
+        private final float defaultSpeedKmh;
+        private final ZoneId zone;
+        private final Map<Long, double[]> totalsByCell = new HashMap<>();
+        private int segments;
+
+        private Builder(double cellSizeDegrees, float defaultSpeedKmh, ZoneId zone) {
+            this.cellSizeDegrees = cellSizeDegrees;
+            this.defaultSpeedKmh = defaultSpeedKmh;
+            this.zone = zone;
+        }
+
+        /**
+         * Adds the segment between two consecutive points of one track. Segments across a reporting gap,
+         * slower than walking pace (standing at the scene) or faster than an ambulance can drive are skipped.
+         */
+        public Builder addSegment(TrackPoint from, TrackPoint to) {
+            long millis = to.recordedAt().toEpochMilli() - from.recordedAt().toEpochMilli();
+            if (!from.emergencyId().equals(to.emergencyId()) || millis <= 0 || millis > MAX_SEGMENT_GAP.toMillis()) {
+                return this;
+            }
+            double distanceKm = from.point().distanceKm(to.point());
+            double hours = millis / 3_600_000.0;
+            double speedKmh = distanceKm / hours;
+            if (speedKmh < MIN_SPEED_KMH || speedKmh > MAX_SPEED_KMH) {
+                return this;
+            }
+            double latitude = (from.point().latitude() + to.point().latitude()) / 2;
+            double longitude = (from.point().longitude() + to.point().longitude()) / 2;
+            int hour = from.recordedAt().atZone(zone).getHour();
+            double[] totals = totalsByCell.computeIfAbsent(
+                cellKey(latitudeIndex(latitude), longitudeIndex(longitude)), key -> new double[2 * HOURS]);
+            totals[hour] += distanceKm;
+            totals[HOURS + hour] += hours;
+            segments++;
+            return this;
+        }
+
+        public int segments() {
+            return segments;
+        }
+
+        public SpeedProfile build() {
+            if (totalsByCell.isEmpty()) {
+                return new SpeedProfile(cellSizeDegrees, defaultSpeedKmh, 0, 0, 0, 0, new float[0]);
+            }
+            int minRow = Integer.MAX_VALUE;
+            int maxRow = Integer.MIN_VALUE;
+            int minColumn = Integer.MAX_VALUE;
+            int maxColumn = Integer.MIN_VALUE;
+            for (long key : totalsByCell.keySet()) {
+                minRow = Math.min(minRow, (int) (key >> 32));
+                maxRow = Math.max(maxRow, (int) (key >> 32));
+                minColumn = Math.min(minColumn, (int) key);
+                maxColumn = Math.max(maxColumn, (int) key);
+            }
+            int factor = 1;
+            while (span(minRow, maxRow, factor) * span(minColumn, maxColumn, factor) > MAX_CELLS) {
+                factor++;
+            }
+            Map<Long, double[]> totals = factor == 1 ? totalsByCell : merge(factor);
+            int rows = (int) span(minRow, maxRow, factor);
+            int columns = (int) span(minColumn, maxColumn, factor);
+            minRow = Math.floorDiv(minRow, factor);
+            minColumn = Math.floorDiv(minColumn, factor);
+            float[] speeds = new float[rows * columns * HOURS];
+            Arrays.fill(speeds, defaultSpeedKmh);
+            for (Map.Entry<Long, double[]> cell : totals.entrySet()) {
+                long key = cell.getKey();
+                int offset = (((int) (key >> 32) - minRow) * columns + ((int) key - minColumn)) * HOURS;
+                double[] cellTotals = cell.getValue();
+                double dayDistance = 0;
+                double dayHours = 0;
+                for (int hour = 0; hour < HOURS; hour++) {
+                    dayDistance += cellTotals[hour];
+                    dayHours += cellTotals[HOURS + hour];
+                }
+                float daySpeed = speedOrDefault(dayDistance, dayHours, defaultSpeedKmh);
+                for (int hour = 0; hour < HOURS; hour++) {
+                    speeds[offset + hour] = speedOrDefault(cellTotals[hour], cellTotals[HOURS + hour], daySpeed);
+                }
+            }
+            return new SpeedProfile(cellSizeDegrees * factor, defaultSpeedKmh, minRow, minColumn, rows, columns, speeds);
+        }
+
+        private Map<Long, double[]> merge(int factor) {
+            Map<Long, double[]> merged = new HashMap<>();
+            for (Map.Entry<Long, double[]> cell : totalsByCell.entrySet()) {
+                long key = cell.getKey();
+                double[] totals = merged.computeIfAbsent(
+                    cellKey(Math.floorDiv((int) (key >> 32), factor), Math.floorDiv((int) key, factor)),
+                    mergedKey -> new double[2 * HOURS]);
+                double[] source = cell.getValue();
+                for (int slot = 0; slot < totals.length; slot++) {
+                    totals[slot] += source[slot];
+                }
+            }
+            return merged;
+        }
+
+        private static long span(int min, int max, int factor) {
+            return (long) Math.floorDiv(max, factor) - Math.floorDiv(min, factor) + 1;
+        }
+
+        private int latitudeIndex(double latitude) {
+            return (int) Math.floor(latitude / cellSizeDegrees);
+        }
+
+        private int longitudeIndex(double longitude) {
+            return (int) Math.floor(longitude / cellSizeDegrees);
+        }
+
+        private static long cellKey(int latitudeIndex, int longitudeIndex) {
+            return ((long) latitudeIndex << 32) | (longitudeIndex & 0xFFFFFFFFL);
+        }
+
+        private static float speedOrDefault(double distanceKm, double hours, float fallback) {
+            return hours > 0 ? (float) (distanceKm / hours) : fallback;
+        }
+    }
+}
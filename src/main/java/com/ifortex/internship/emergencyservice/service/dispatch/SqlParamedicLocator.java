@@ -0,0 +1,112 @@
+package com.ifortex.internship.emergencyservice.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.repository.ParamedicLocationRepository;
+import com.ifortex.internship.emergencyservice.util.BoundingBox;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.dispatch.locator", havingValue = "sql", matchIfMissing = true)
+public class SqlParamedicLocator implements ParamedicLocator {
+
+    ParamedicLocationRepository paramedicLocationRepository;
+    ParamedicLocationBuffer paramedicLocationBuffer;
+    BusyParamedicRegistry busyParamedicRegistry;
+    Clock clock;
+
+    @Value("${app.dispatch.location-ttl}") Duration locationTtl;
+
+    @Override
+    public List<ParamedicPosition> findNearestAvailable(GeoPoint origin, double radiusKm, int limit) {
+        BoundingBox box = BoundingBox.around(origin, radiusKm);
+        double latitudeRadians = Math.toRadians(origin.latitude());
+        Instant freshSince = clock.instant().minus(locationTtl);
+        List<ParamedicPosition> stored = paramedicLocationRepository
+            .findNearestAvailableParamedicsInBox(
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(),
+                Math.sin(latitudeRadians), Math.cos(latitudeRadians), Math.toRadians(origin.longitude()),
+                radiusKm, freshSince, limit)
+            .stream()
+            .map(ParamedicPosition::of)
+            .toList();
+        if (paramedicLocationBuffer.size() == 0) {
+            return stored;
+        }
+        return overlayBuffered(stored, origin, radiusKm, freshSince, limit);
+    }
+
+    @Override
+    public Optional<ParamedicPosition> findPosition(UUID paramedicId) {
+        Optional<ParamedicPosition> stored = paramedicLocationRepository.findById(paramedicId).map(ParamedicPosition::of);
+        Optional<ParamedicPosition> buffered = paramedicLocationBuffer.get(paramedicId);
+        if (stored.isEmpty()) {
+            return buffered;
+        }
+        return buffered.map(position -> newer(stored.get(), position)).or(() -> stored);
+    }
+
+    /**
+     * Reads stored positions only: the distances feed a density estimate, for which positions still
+     * waiting in the write-behind buffer are not worth a merge.
+     */
+    @Override
+    public double[] availableDistances(GeoPoint origin, double radiusKm) {
+        BoundingBox box = BoundingBox.around(origin, radiusKm);
+        double latitudeRadians = Math.toRadians(origin.latitude());
+        return paramedicLocationRepository
+            .findAvailableDistancesInBox(
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(),
+                Math.sin(latitudeRadians), Math.cos(latitudeRadians), Math.toRadians(origin.longitude()),
+                radiusKm, clock.instant().minus(locationTtl))
+            .stream()
+            .mapToDouble(Double::doubleValue)
+            .toArray();
+    }
+
+    /**
+     * Replaces stored positions with newer ones that are still waiting in the write-behind buffer and
+     * adds buffered paramedics that moved into the radius. Buffered paramedics the query has not
+     * vetted are checked against the busy registry instead.
+     */
+    private List<ParamedicPosition> overlayBuffered(List<ParamedicPosition> stored, GeoPoint origin, double radiusKm,
+                                                    Instant freshSince, int limit) {
+        Map<UUID, ParamedicPosition> merged = new LinkedHashMap<>();
+        for (ParamedicPosition position : stored) {
+            merged.put(position.paramedicId(), paramedicLocationBuffer.get(position.paramedicId())
+                .map(buffered -> newer(position, buffered))
+                .orElse(position));
+        }
+        for (ParamedicPosition position : paramedicLocationBuffer.findWithin(origin, radiusKm)) {
+            if (merged.containsKey(position.paramedicId()) || busyParamedicRegistry.isAvailable(position.paramedicId())) {
+                merged.merge(position.paramedicId(), position, SqlParamedicLocator::newer);
+            }
+        }
+        return merged.values().stream()
+            .filter(position -> !position.updatedAt().isBefore(freshSince))
+            .filter(position -> origin.distanceKm(position.point()) <= radiusKm)
+            .sorted(Comparator.comparingDouble(position -> origin.distanceKm(position.point())))
+            .limit(limit)
+            .toList();
+    }
+
+    private static ParamedicPosition newer(ParamedicPosition current, ParamedicPosition other) {
+        return other.updatedAt().isBefore(current.updatedAt()) ? current : other;
+    }
+}
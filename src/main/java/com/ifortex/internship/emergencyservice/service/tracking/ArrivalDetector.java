@@ -0,0 +1,153 @@
+package com.ifortex.internship.emergencyservice.service.tracking;
+
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicReleasedEvent;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.EmergencyLocation;
+import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMetrics;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects when an assigned paramedic reaches the initiator location. Every active assignment has a
+ * {@link Geofence} keyed by paramedic, so each location update costs a map lookup and a bounding box
+ * check. Building the geofence and recording the arrival both touch the databases, so they run on the
+ * dispatch scheduler, one task per paramedic at a time, and never on the location ingest thread. The
+ * geofence is dropped only once the arrival is stored; a failed write is retried on the next position
+ * inside it. After that the paramedic is settled until released.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ArrivalDetector {
+
+    EmergencyRepository emergencyRepository;
+    EmergencyLocationRepository emergencyLocationRepository;
+    EmergencySnapshotRepository emergencySnapshotRepository;
+    EmergencyTrackRecorder emergencyTrackRecorder;
+    DispatchMetrics dispatchMetrics;
+    @Qualifier("dispatchTaskScheduler") TaskScheduler dispatchTaskScheduler;
+    Clock clock;
+    Map<UUID, Geofence> geofencesByParamedic = new ConcurrentHashMap<>();
+    Set<UUID> settledParamedics = ConcurrentHashMap.newKeySet();
+    Set<UUID> inFlightParamedics = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.tracking.arrival-radius-meters}") double arrivalRadiusMeters;
+
+    @EventListener
+    public void onParamedicLocationChanged(ParamedicLocationChangedEvent event) {
+        UUID paramedicId = event.paramedicId();
+        Geofence geofence = geofencesByParamedic.get(paramedicId);
+        if (geofence == null) {
+            if (!settledParamedics.contains(paramedicId)) {
+                emergencyTrackRecorder.findActiveEmergency(paramedicId)
+                    .ifPresent(emergencyId -> submit(paramedicId, () -> openGeofence(paramedicId, emergencyId)));
+            }
+            return;
+        }
+        if (geofence.contains(GeoPoint.of(event.latitude(), event.longitude()))) {
+            submit(paramedicId, () -> recordArrival(paramedicId, geofence, event.updatedAt()));
+        }
+    }
+
+    @EventListener
+    public void onParamedicReleased(ParamedicReleasedEvent event) {
+        geofencesByParamedic.remove(event.paramedicId());
+        settledParamedics.remove(event.paramedicId());
+    }
+
+    public int size() {
+        return geofencesByParamedic.size();
+    }
+
+    private void submit(UUID paramedicId, Runnable task) {
+        if (!inFlightParamedics.add(paramedicId)) {
+            return;
+        }
+        try {
+            dispatchTaskScheduler.schedule(() -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlightParamedics.remove(paramedicId);
+                }
+            }, clock.instant());
+        } catch (TaskRejectedException e) {
+            inFlightParamedics.remove(paramedicId);
+            log.warn("Could not schedule arrival detection for paramedic [{}]: {}", paramedicId, e.getMessage());
+        }
+    }
+
+    private void openGeofence(UUID paramedicId, UUID emergencyId) {
+        try {
+            Optional<EmergencyLocation> initiator = emergencyLocationRepository
+                .findFirstByEmergencyIdAndLocationType(emergencyId, EmergencyLocationType.INITIATOR);
+            if (initiator.isEmpty()) {
+                log.warn("Initiator location of emergency [{}] not found, arrival will not be detected", emergencyId);
+                settledParamedics.add(paramedicId);
+                return;
+            }
+            if (!emergencyTrackRecorder.findActiveEmergency(paramedicId).equals(Optional.of(emergencyId))) {
+                return;
+            }
+            geofencesByParamedic.putIfAbsent(paramedicId, Geofence.around(emergencyId,
+                GeoPoint.of(initiator.get().getLatitude(), initiator.get().getLongitude()), arrivalRadiusMeters / 1000));
+        } catch (RuntimeException e) {
+            log.error("Failed to open geofence of paramedic [{}] for emergency [{}]", paramedicId, emergencyId, e);
+        }
+    }
+
+    private void recordArrival(UUID paramedicId, Geofence geofence, Instant arrivedAt) {
+        UUID emergencyId = geofence.emergencyId();
+        try {
+            if (emergencyRepository.markArrived(emergencyId, paramedicId, EmergencyStatus.ONGOING, arrivedAt) == 0) {
+                log.debug("Arrival of paramedic [{}] at emergency [{}] already recorded", paramedicId, emergencyId);
+            } else {
+                log.info("Paramedic [{}] arrived at emergency [{}]", paramedicId, emergencyId);
+                copyToSnapshot(emergencyId, arrivedAt);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to record arrival of paramedic [{}] at emergency [{}], retrying on the next position",
+                paramedicId, emergencyId, e);
+            return;
+        }
+        if (geofencesByParamedic.remove(paramedicId, geofence)) {
+            settledParamedics.add(paramedicId);
+        }
+    }
+
+    private void copyToSnapshot(UUID emergencyId, Instant arrivedAt) {
+        try {
+            emergencySnapshotRepository.setArrivedAt(emergencyId.toString(), arrivedAt).ifPresentOrElse(snapshot -> {
+                if (snapshot.getCreatedAt() != null) {
+                    dispatchMetrics.paramedicArrived(Duration.between(snapshot.getCreatedAt(), arrivedAt));
+                }
+            }, () -> log.warn("Emergency [{}] snapshot not found, arrival not copied", emergencyId));
+        } catch (RuntimeException e) {
+            log.error("Failed to copy arrival of emergency [{}] to its snapshot", emergencyId, e);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.ifortex.internship.emergencyservice.service.tracking;
+
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicReleasedEvent;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
+import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.BusyParamedicRegistry;
+import com.ifortex.internship.emergencyservice.util.TrackPointMapper;
+import com.ifortex.internship.medstarter.exception.custom.EntityNotFoundException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records the route of every assigned paramedic into a {@link TrackRingBuffer} per emergency and appends
+ * the new points to emergency_location in batches. The first position reported by a busy paramedic opens
+ * the track on the dispatch scheduler, so location ingestion never waits on the database; positions
+ * reported while it opens are held and appended in order once the track exists. The track is closed, after a final flush, when the paramedic is released. The closed track
+ * is simplified before it is copied into the emergency snapshot.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EmergencyTrackRecorder {
+
+    EmergencyRepository emergencyRepository;
+    EmergencyLocationRepository emergencyLocationRepository;
+    EmergencySnapshotRepository emergencySnapshotRepository;
+    TrackPointMapper trackPointMapper;
+    BusyParamedicRegistry busyParamedicRegistry;
+    @Qualifier("dispatchTaskScheduler") TaskScheduler dispatchTaskScheduler;
+    Clock clock;
+    Map<UUID, TrackRingBuffer> tracksByParamedic = new ConcurrentHashMap<>();
+    Map<UUID, List<Fix>> openingParamedics = new ConcurrentHashMap<>();
+    Object flushLock = new Object();
+
+    @Value("${app.tracking.capacity}") int capacity;
+    @Value("${app.tracking.flush-interval}") Duration flushInterval;
+    @Value("${app.tracking.simplify-tolerance-meters}") double simplifyToleranceMeters;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startFlushing() {
+        dispatchTaskScheduler.scheduleWithFixedDelay(this::flush, flushInterval);
+    }
+
+    @EventListener
+    public void onParamedicLocationChanged(ParamedicLocationChangedEvent event) {
+        if (!busyParamedicRegistry.isBusy(event.paramedicId())) {
+            return;
+        }
+        GeoPoint point = GeoPoint.of(event.latitude(), event.longitude());
+        TrackRingBuffer track = tracksByParamedic.get(event.paramedicId());
+        if (track != null) {
+            track.append(point, event.updatedAt());
+        } else {
+            requestTrack(event.paramedicId(), point, event.updatedAt());
+        }
+    }
+
+    @EventListener
+    public void onParamedicReleased(ParamedicReleasedEvent event) {
+        TrackRingBuffer track = tracksByParamedic.remove(event.paramedicId());
+        if (track != null) {
+            // released from an after-commit callback, so close the track on the scheduler in fresh transactions
+            dispatchTaskScheduler.schedule(() -> closeTrack(track), clock.instant());
+        }
+    }
+
+    /**
+     * Stored track of the emergency followed by the points still waiting for the next flush.
+     */
+    public List<TrackPoint> findTrack(UUID emergencyId) {
+        if (!emergencyRepository.existsById(emergencyId)) {
+            log.error("Emergency [{}] not found", emergencyId);
+            throw new EntityNotFoundException(String.format("Emergency [%s] not found", emergencyId));
+        }
+        return loadTrack(emergencyId, tracksByParamedic.values().stream()
+            .filter(ring -> ring.getEmergencyId().equals(emergencyId))
+            .toList());
+    }
+
+    /**
+     * Emergency the paramedic is assigned to, resolved from the open track only, so it never touches the
+     * database. Empty until the track is opened.
+     */
+    public Optional<UUID> findActiveEmergency(UUID paramedicId) {
+        return Optional.ofNullable(activeTrack(paramedicId)).map(TrackRingBuffer::getEmergencyId);
+    }
+
+    public void flush() {
+        flush(List.copyOf(tracksByParamedic.values()));
+    }
+
+    private TrackRingBuffer activeTrack(UUID paramedicId) {
+        if (!busyParamedicRegistry.isBusy(paramedicId)) {
+            return null;
+        }
+        return tracksByParamedic.get(paramedicId);
+    }
+
+    private void requestTrack(UUID paramedicId, GeoPoint point, Instant recordedAt) {
+        AtomicBoolean first = new AtomicBoolean();
+        openingParamedics.compute(paramedicId, (id, waiting) -> {
+            TrackRingBuffer track = tracksByParamedic.get(id);
+            if (track != null) {
+                track.append(point, recordedAt);
+                return null;
+            }
+            List<Fix> fixes = waiting != null ? waiting : new ArrayList<>();
+            fixes.add(new Fix(point, recordedAt));
+            first.set(waiting == null);
+            return fixes;
+        });
+        if (!first.get()) {
+            return;
+        }
+        try {
+            dispatchTaskScheduler.schedule(() -> openTrack(paramedicId), clock.instant());
+        } catch (TaskRejectedException e) {
+            openingParamedics.remove(paramedicId);
+            log.warn("Could not schedule opening the track of paramedic [{}]: {}", paramedicId, e.getMessage());
+        }
+    }
+
+    /**
+     * Appends the held positions before publishing the track, under the same key lock that
+     * {@link #requestTrack} takes, so no later position can overtake them.
+     */
+    private void openTrack(UUID paramedicId) {
+        Optional<UUID> emergencyId;
+        try {
+            emergencyId = emergencyRepository
+                .findFirstByParamedicIdAndStatusOrderByCreatedAtDesc(paramedicId, EmergencyStatus.ONGOING)
+                .filter(emergency -> busyParamedicRegistry.isBusy(paramedicId))
+                .map(Emergency::getId);
+        } catch (RuntimeException e) {
+            openingParamedics.remove(paramedicId);
+            log.error("Failed to open track of paramedic [{}]", paramedicId, e);
+            return;
+        }
+        openingParamedics.compute(paramedicId, (id, waiting) -> {
+            emergencyId.ifPresent(emergency -> {
+                TrackRingBuffer existing = tracksByParamedic.get(id);
+                TrackRingBuffer track = existing != null ? existing : new TrackRingBuffer(emergency, capacity);
+                append(track, waiting);
+                if (existing == null) {
+                    tracksByParamedic.put(id, track);
+                }
+            });
+            return null;
+        });
+    }
+
+    private static void append(TrackRingBuffer track, List<Fix> fixes) {
+        if (fixes != null) {
+            fixes.forEach(fix -> track.append(fix.point(), fix.recordedAt()));
+        }
+    }
+
+    private List<TrackPoint> loadTrack(UUID emergencyId, Collection<TrackRingBuffer> rings) {
+        List<TrackPoint> track = new ArrayList<>(emergencyLocationRepository
+            .findByEmergencyIdAndLocationTypeOrderByTimestampAsc(emergencyId, EmergencyLocationType.PARAMEDIC_TRACK)
+            .stream()
+            .map(location -> new TrackPoint(emergencyId, GeoPoint.of(location.getLatitude(), location.getLongitude()),
+                location.getTimestamp()))
+            .toList());
+        Instant storedUntil = track.isEmpty() ? Instant.MIN : track.getLast().recordedAt();
+        rings.stream()
+            .flatMap(ring -> ring.pending().points().stream())
+            .filter(point -> point.recordedAt().isAfter(storedUntil))
+            .forEach(track::add);
+        return track;
+    }
+
+    private void closeTrack(TrackRingBuffer track) {
+        flush(List.of(track));
+        saveToSnapshot(track);
+        log.debug("Closed track of emergency [{}]", track.getEmergencyId());
+    }
+
+    private void saveToSnapshot(TrackRingBuffer ring) {
+        UUID emergencyId = ring.getEmergencyId();
+        try {
+            List<TrackPoint> track = loadTrack(emergencyId, List.of(ring));
+            List<TrackPoint> simplified = TrackSimplifier.simplify(track, simplifyToleranceMeters);
+            if (emergencySnapshotRepository.replaceTrack(emergencyId.toString(), trackPointMapper.toSnapshotList(simplified))) {
+                log.debug("Saved track of emergency [{}] to snapshot: {} of {} point(s) kept",
+                    emergencyId, simplified.size(), track.size());
+            } else {
+                log.warn("Emergency [{}] snapshot not found, track not saved", emergencyId);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to save track of emergency [{}] to snapshot", emergencyId, e);
+        }
+    }
+
+    private void flush(Collection<TrackRingBuffer> tracks) {
+        synchronized (flushLock) {
+            Map<TrackRingBuffer, TrackRingBuffer.Pending> batch = new LinkedHashMap<>();
+            for (TrackRingBuffer track : tracks) {
+                TrackRingBuffer.Pending pending = track.pending();
+                if (!pending.points().isEmpty()) {
+                    batch.put(track, pending);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<TrackPoint> points = batch.values().stream().flatMap(pending -> pending.points().stream()).toList();
+            try {
+                emergencyLocationRepository.appendTrackPoints(points);
+            } catch (RuntimeException e) {
+                log.error("Failed to append {} track point(s), keeping them for the next flush", points.size(), e);
+                return;
+            }
+            batch.forEach((track, pending) -> track.markFlushed(pending.upTo()));
+            log.debug("Appended {} track point(s) for {} emergency(ies)", points.size(), batch.size());
+        }
+    }
+
+    private record Fix(GeoPoint point, Instant recordedAt) {
+    }
+}
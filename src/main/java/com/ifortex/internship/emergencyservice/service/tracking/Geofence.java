@@ -0,0 +1,30 @@
+package com.ifortex.internship.emergencyservice.service.tracking;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+
+import java.util.UUID;
+
+/**
+ * Circle around the initiator location of an emergency. Positions outside its latitude band or
+ * longitude band are rejected without trigonometry, so the great-circle distance is only computed
+ * for a paramedic who is already close.
+ */
+public record Geofence(UUID emergencyId, GeoPoint center, double radiusKm, int latitudeSpanE6, int longitudeSpanE6) {
+
+    private static final double MICRO_DEGREES_PER_KM = 1_000_000.0 / GeoUtils.KM_PER_DEGREE;
+
+    public static Geofence around(UUID emergencyId, GeoPoint center, double radiusKm) {
+        double latitudeSpan = radiusKm * MICRO_DEGREES_PER_KM;
+        double longitudeSpan = latitudeSpan / Math.max(Math.cos(Math.toRadians(center.latitude())), 0.01);
+        return new Geofence(emergencyId, center, radiusKm, (int) Math.ceil(latitudeSpan), (int) Math.ceil(longitudeSpan));
+    }
+
+    public boolean contains(GeoPoint point) {
+        if (Math.abs(point.latitudeE6() - center.latitudeE6()) > latitudeSpanE6
+            || Math.abs(point.longitudeE6() - center.longitudeE6()) > longitudeSpanE6) {
+            return false;
+        }
+        return center.distanceKm(point) <= radiusKm;
+    }
+}
@@ -0,0 +1,216 @@
+package com.ifortex.internship.emergencyservice.service.tracking;
+
+import com.ifortex.internship.emergencyservice.event.EmergencyClosedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicReleasedEvent;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicLocator;
+import com.ifortex.internship.emergencyservice.util.TrackPointMapper;
+import com.ifortex.internship.medstarter.exception.custom.EntityNotFoundException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.ifortex.internship.emergencyservice.service.EmergencyService.EXCEPTION_NO_ONGOING_EMERGENCY_FOUND;
+import static com.ifortex.internship.emergencyservice.service.EmergencyService.LOG_NO_ONGOING_EMERGENCY_FOUND_FOR_CLIENT;
+
+/**
+ * Live position of the assigned paramedic for clients watching their ongoing emergency. All watchers of
+ * one emergency share a topic fed from location events, so no watcher reads the database after
+ * subscribing. Delivery is conflated: a watcher that is still sending keeps only the newest pending
+ * position, and at most one send task per watcher is queued on the stream executor. A topic is closed
+ * when its paramedic is released or its emergency reaches a terminal status, whichever comes first.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ParamedicPositionStream {
+
+    public static final String POSITION_EVENT = "position";
+
+    EmergencyRepository emergencyRepository;
+    EmergencyTrackRecorder emergencyTrackRecorder;
+    ParamedicLocator paramedicLocator;
+    TrackPointMapper trackPointMapper;
+    @Qualifier("positionStreamExecutor") Executor positionStreamExecutor;
+    Map<UUID, Topic> topics = new ConcurrentHashMap<>();
+
+    @Value("${app.tracking.stream.timeout}") Duration timeout;
+
+    public SseEmitter subscribe(UUID clientId) {
+        Emergency emergency = emergencyRepository.findByClientIdAndStatus(clientId, EmergencyStatus.ONGOING)
+            .orElseThrow(() -> {
+                log.error(LOG_NO_ONGOING_EMERGENCY_FOUND_FOR_CLIENT, clientId);
+                return new EntityNotFoundException(EXCEPTION_NO_ONGOING_EMERGENCY_FOUND);
+            });
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        Topic topic = topics.compute(emergency.getId(), (id, existing) -> {
+            Topic joined = existing != null ? existing : new Topic(id);
+            joined.subscribers.add(subscriber);
+            if (emergency.getParamedicId() != null) {
+                joined.paramedicId = emergency.getParamedicId();
+            }
+            return joined;
+        });
+        emitter.onCompletion(() -> unsubscribe(topic, subscriber));
+        emitter.onTimeout(() -> unsubscribe(topic, subscriber));
+        emitter.onError(error -> unsubscribe(topic, subscriber));
+
+        // the emergency may have closed after the lookup, before its close event could see this topic
+        if (!emergencyRepository.existsByIdAndStatus(emergency.getId(), EmergencyStatus.ONGOING)) {
+            closeTopic(emergency.getId());
+            return emitter;
+        }
+        if (topic.latest.get() == null && emergency.getParamedicId() != null) {
+            paramedicLocator.findPosition(emergency.getParamedicId()).ifPresent(position -> topic.publish(new TrackPoint(
+                emergency.getId(), position.point(), position.updatedAt())));
+        }
+        TrackPoint latest = topic.latest.get();
+        if (latest != null) {
+            subscriber.offer(latest);
+        }
+        log.debug("Client [{}] subscribed to paramedic position of emergency [{}], {} watcher(s)",
+            clientId, emergency.getId(), topic.subscribers.size());
+        return emitter;
+    }
+
+    @EventListener
+    public void onParamedicLocationChanged(ParamedicLocationChangedEvent event) {
+        if (topics.isEmpty()) {
+            return;
+        }
+        emergencyTrackRecorder.findActiveEmergency(event.paramedicId())
+            .map(topics::get)
+            .ifPresent(topic -> {
+                topic.paramedicId = event.paramedicId();
+                topic.publish(new TrackPoint(
+                    topic.emergencyId, GeoPoint.of(event.latitude(), event.longitude()), event.updatedAt()));
+            });
+    }
+
+    @EventListener
+    public void onParamedicReleased(ParamedicReleasedEvent event) {
+        topics.values().removeIf(topic -> {
+            if (!event.paramedicId().equals(topic.paramedicId)) {
+                return false;
+            }
+            close(topic);
+            return true;
+        });
+    }
+
+    @EventListener
+    public void onEmergencyClosed(EmergencyClosedEvent event) {
+        closeTopic(event.emergencyId());
+    }
+
+    public int watcherCount(UUID emergencyId) {
+        Topic topic = topics.get(emergencyId);
+        return topic == null ? 0 : topic.subscribers.size();
+    }
+
+    private void closeTopic(UUID emergencyId) {
+        Topic topic = topics.remove(emergencyId);
+        if (topic != null) {
+            close(topic);
+        }
+    }
+
+    private void close(Topic topic) {
+        topic.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        log.debug("Closed paramedic position stream of emergency [{}]", topic.emergencyId);
+    }
+
+    private void unsubscribe(Topic topic, Subscriber subscriber) {
+        topics.computeIfPresent(topic.emergencyId, (id, existing) -> {
+            existing.subscribers.remove(subscriber);
+            return existing.subscribers.isEmpty() ? null : existing;
+        });
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class Topic {
+
+        final UUID emergencyId;
+        final AtomicReference<TrackPoint> latest = new AtomicReference<>();
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        volatile UUID paramedicId;
+
+        Topic(UUID emergencyId) {
+            this.emergencyId = emergencyId;
+        }
+
+        void publish(TrackPoint point) {
+            TrackPoint newest = latest.accumulateAndGet(point, (current, candidate) ->
+                current == null || candidate.recordedAt().isAfter(current.recordedAt()) ? candidate : current);
+            if (newest == point) {
+                subscribers.forEach(subscriber -> subscriber.offer(point));
+            }
+        }
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private final class Subscriber {
+
+        SseEmitter emitter;
+        AtomicReference<TrackPoint> pending = new AtomicReference<>();
+        AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(TrackPoint point) {
+            pending.set(point);
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    positionStreamExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    emitter.completeWithError(e);
+                }
+            }
+        }
+
+        private void drain() {
+            do {
+                for (TrackPoint point = pending.getAndSet(null); point != null; point = pending.getAndSet(null)) {
+                    try {
+                        emitter.send(SseEmitter.event()
+                            .name(POSITION_EVENT)
+                            .data(trackPointMapper.toDto(point), MediaType.APPLICATION_JSON));
+                    } catch (IOException | IllegalStateException e) {
+                        log.debug("Dropping paramedic position watcher: {}", e.getMessage());
+                        emitter.completeWithError(e);
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (pending.get() != null && draining.compareAndSet(false, true));
+        }
+    }
+}
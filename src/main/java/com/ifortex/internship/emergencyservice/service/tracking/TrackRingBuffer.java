@@ -0,0 +1,69 @@
+package com.ifortex.internship.emergencyservice.service.tracking;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recent track of one emergency in fixed-size primitive arrays. Every appended point gets the next
+ * sequence number; points below the flushed sequence are already stored. Once the ring is full the
+ * oldest point is overwritten, stored or not.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TrackRingBuffer {
+
+    @Getter
+    final UUID emergencyId;
+    final int[] latitudesE6;
+    final int[] longitudesE6;
+    final long[] recordedAtMillis;
+    long nextSequence;
+    long flushedSequence;
+
+    public TrackRingBuffer(UUID emergencyId, int capacity) {
+        this.emergencyId = emergencyId;
+        this.latitudesE6 = new int[capacity];
+        this.longitudesE6 = new int[capacity];
+        this.recordedAtMillis = new long[capacity];
+    }
+
+    public synchronized void append(GeoPoint point, Instant recordedAt) {
+        int slot = (int) (nextSequence % latitudesE6.length);
+        latitudesE6[slot] = point.latitudeE6();
+        longitudesE6[slot] = point.longitudeE6();
+        recordedAtMillis[slot] = recordedAt.toEpochMilli();
+        nextSequence++;
+    }
+
+    /**
+     * Points not stored yet, with the sequence to pass to {@link #markFlushed} once they are.
+     */
+    public synchronized Pending pending() {
+        long from = Math.max(flushedSequence, nextSequence - latitudesE6.length);
+        return new Pending(points(from, nextSequence), nextSequence);
+    }
+
+    public synchronized void markFlushed(long sequence) {
+        flushedSequence = Math.max(flushedSequence, sequence);
+    }
+
+    private List<TrackPoint> points(long from, long to) {
+        List<TrackPoint> points = new ArrayList<>((int) (to - from));
+        for (long sequence = from; sequence < to; sequence++) {
+            int slot = (int) (sequence % latitudesE6.length);
+            points.add(new TrackPoint(emergencyId, new GeoPoint(latitudesE6[slot], longitudesE6[slot]),
+                Instant.ofEpochMilli(recordedAtMillis[slot])));
+        }
+        return points;
+    }
+
+    public record Pending(List<TrackPoint> points, long upTo) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.ifortex.internship.emergencyservice.service.tracking;
+
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Douglas-Peucker simplification of a recorded track: keeps the first and last point and every point
+ * that lies further than the tolerance from the line drawn through the points kept around it.
+ * Distances are measured on a local equirectangular projection, which is accurate at city scale.
+ */
+public final class TrackSimplifier {
+
+    private static final double METERS_PER_DEGREE = GeoUtils.KM_PER_DEGREE * 1000;
+
+    private TrackSimplifier() {
+    }
+
+    public static List<TrackPoint> simplify(List<TrackPoint> track, double toleranceMeters) {
+        int size = track.size();
+        if (size < 3) {
+            return List.copyOf(track);
+        }
+        double metersPerLongitude = METERS_PER_DEGREE * Math.cos(Math.toRadians(track.getFirst().point().latitude()));
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = track.get(i).point().longitude() * metersPerLongitude;
+            y[i] = track.get(i).point().latitude() * METERS_PER_DEGREE;
+        }
+
+        boolean[] keep = new boolean[size];
+        keep[0] = true;
+        keep[size - 1] = true;
+        int[] stack = new int[2 * size];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = size - 1;
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+            int farthest = -1;
+            double maxDistance = toleranceMeters;
+            for (int i = first + 1; i < last; i++) {
+                double distance = distanceToSegment(x[i], y[i], x[first], y[first], x[last], y[last]);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+            if (farthest >= 0) {
+                keep[farthest] = true;
+                stack[top++] = first;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = last;
+            }
+        }
+
+        List<TrackPoint> simplified = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (keep[i]) {
+                simplified.add(track.get(i));
+            }
+        }
+        return simplified;
+    }
+
+    private static double distanceToSegment(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        return Math.hypot(px - ax - t * dx, py - ay - t * dy);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ifortex.internship.emergencyservice.util;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+
+/**
+ * Lat/lon rectangle that contains every point within a radius of a centre. When the rectangle
+ * would cross a pole or the antimeridian it widens to the full longitude range instead of wrapping.
+ */
+public record BoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+    private static final double MAX_LATITUDE_FOR_WIDTH = 89.0;
+
+    public static BoundingBox around(GeoPoint center, double radiusKm) {
+        double latitudeDelta = radiusKm / GeoUtils.KM_PER_DEGREE;
+        double minLatitude = Math.max(-90.0, center.latitude() - latitudeDelta);
+        double maxLatitude = Math.min(90.0, center.latitude() + latitudeDelta);
+
+        double farthestLatitude = Math.max(Math.abs(minLatitude), Math.abs(maxLatitude));
+        if (farthestLatitude > MAX_LATITUDE_FOR_WIDTH) {
+            return new BoundingBox(minLatitude, maxLatitude, -180.0, 180.0);
+        }
+        double longitudeDelta = latitudeDelta / Math.cos(Math.toRadians(farthestLatitude));
+        double minLongitude = center.longitude() - longitudeDelta;
+        double maxLongitude = center.longitude() + longitudeDelta;
+        if (minLongitude < -180.0 || maxLongitude > 180.0) {
+            return new BoundingBox(minLatitude, maxLatitude, -180.0, 180.0);
+        }
+        return new BoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ifortex.internship.emergencyservice.util;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.emergency.PendingSearchRecord;
+import com.ifortex.internship.emergencyservice.service.dispatch.PendingSearch;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.time.Instant;
+
+@Mapper(componentModel = "spring", imports = GeoPoint.class)
+public interface PendingSearchMapper {
+
+    @Mapping(target = "latitude", expression = "java(search.getLocation().latitudeDecimal())")
+    @Mapping(target = "longitude", expression = "java(search.getLocation().longitudeDecimal())")
+    PendingSearchRecord toRecord(PendingSearch search, Instant nextAttemptAt);
+
+    @Mapping(target = "location", expression = "java(GeoPoint.of(record.getLatitude(), record.getLongitude()))")
+    PendingSearch toPendingSearch(PendingSearchRecord record);
+}
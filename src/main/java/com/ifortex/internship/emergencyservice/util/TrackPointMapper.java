@@ -0,0 +1,29 @@
+package com.ifortex.internship.emergencyservice.util;
+
+import com.ifortex.internship.emergencyservice.dto.response.TrackPointDto;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencyLocationSnapshot;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface TrackPointMapper {
+
+    @Mapping(target = "latitude", expression = "java(point.point().latitudeDecimal())")
+    @Mapping(target = "longitude", expression = "java(point.point().longitudeDecimal())")
+    @Mapping(source = "recordedAt", target = "timestamp")
+    TrackPointDto toDto(TrackPoint point);
+
+    List<TrackPointDto> toDtoList(List<TrackPoint> points);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "locationType", constant = "PARAMEDIC_TRACK")
+    @Mapping(target = "latitude", expression = "java(point.point().latitudeDecimal())")
+    @Mapping(target = "longitude", expression = "java(point.point().longitudeDecimal())")
+    @Mapping(source = "recordedAt", target = "timestamp")
+    EmergencyLocationSnapshot toSnapshot(TrackPoint point);
+
+    List<EmergencyLocationSnapshot> toSnapshotList(List<TrackPoint> points);
+}
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS paramedic_claim
+(
+    paramedic_id UUID PRIMARY KEY,
+    emergency_id UUID                                      NOT NULL,
+    claimed_at   TIMESTAMP WITHOUT TIME ZONE DEFAULT now() NOT NULL,
+    CONSTRAINT fk_claim_emergency FOREIGN KEY (emergency_id)
+        REFERENCES emergency (id) ON DELETE CASCADE
+);
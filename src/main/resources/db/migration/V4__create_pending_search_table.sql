@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS pending_search
+(
+    emergency_id      UUID PRIMARY KEY,
+    latitude          NUMERIC(10, 6)              NOT NULL,
+    longitude         NUMERIC(10, 6)              NOT NULL,
+    radius_km         DOUBLE PRECISION            NOT NULL,
+    attempt           INTEGER                     NOT NULL,
+    next_attempt_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    extended_deadline TIMESTAMP WITHOUT TIME ZONE,
+    started_at        TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT fk_pending_search_emergency FOREIGN KEY (emergency_id)
+        REFERENCES emergency (id) ON DELETE CASCADE
+);
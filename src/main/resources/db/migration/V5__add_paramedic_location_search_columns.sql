@@ -0,0 +1,8 @@
+ALTER TABLE paramedic_location
+    ADD COLUMN IF NOT EXISTS lon_rad DOUBLE PRECISION GENERATED ALWAYS AS (radians(longitude)) STORED,
+    ADD COLUMN IF NOT EXISTS sin_lat DOUBLE PRECISION GENERATED ALWAYS AS (sin(radians(latitude))) STORED,
+    ADD COLUMN IF NOT EXISTS cos_lat DOUBLE PRECISION GENERATED ALWAYS AS (cos(radians(latitude))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_paramedic_location_lat_lon ON paramedic_location (latitude, longitude);
+
+CREATE INDEX IF NOT EXISTS idx_emergency_ongoing_paramedic ON emergency (paramedic_id) WHERE status = 'ONGOING';
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_paramedic_location_updated_at ON paramedic_location (updated_at);
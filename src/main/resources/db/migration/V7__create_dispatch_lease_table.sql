@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS dispatch_lease
+(
+    emergency_id UUID PRIMARY KEY,
+    owner_id     VARCHAR(64)                 NOT NULL,
+    expires_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT fk_dispatch_lease_emergency FOREIGN KEY (emergency_id)
+        REFERENCES emergency (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_dispatch_lease_owner ON dispatch_lease (owner_id);
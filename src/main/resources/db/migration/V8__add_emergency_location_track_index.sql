@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_emergency_location_track
+    ON emergency_location (emergency_id, timestamp)
+    WHERE location_type = 'PARAMEDIC_TRACK';
@@ -0,0 +1,2 @@
+ALTER TABLE emergency
+    ADD COLUMN IF NOT EXISTS arrived_at TIMESTAMP WITHOUT TIME ZONE;
@@ -0,0 +1,184 @@
+package com.ifortex.internship.emergencyservice.benchmark;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.service.dispatch.BatchAssignmentOptimizer;
+import com.ifortex.internship.emergencyservice.service.dispatch.BatchAssignmentOptimizer.Demand;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicGridIndex;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Surge scenario: a burst of emergencies arrives over a city-sized area and is dispatched
+ * either greedily in arrival order or in ticks solved as one min-cost matching. JMH reports the
+ * time each mode needs per scenario; the test alongside it checks the quality of the matching on
+ * seeded scenarios. Run with {@code mvn test -Pbenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DispatchModeBenchmark {
+
+    private static final double CENTER_LAT = 53.90;
+    private static final double CENTER_LON = 27.56;
+    private static final double CITY_SPAN_DEGREES = 0.2;
+    private static final double RADIUS_KM = 10;
+    private static final int PARAMEDICS = 2_000;
+    private static final int EMERGENCIES = 1_500;
+    private static final int EMERGENCIES_PER_TICK = 100;
+    private static final int CANDIDATES = 5;
+    private static final int ROUNDS = 5;
+    private static final double TOLERANCE = 0.01;
+
+    Scenario scenario;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scenario = Scenario.generate(new Random(7));
+    }
+
+    @Benchmark
+    public double greedy() {
+        return runGreedy(scenario).totalDistanceKm();
+    }
+
+    @Benchmark
+    public double batch() {
+        return runBatch(scenario).totalDistanceKm();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(DispatchModeBenchmark.class.getSimpleName())
+            .forks(0)
+            .build()).run();
+    }
+
+    /**
+     * Each tick is matched optimally, but the ticks are not, so batch dispatch is only expected to
+     * do about as well as greedy on every scenario and not strictly better.
+     */
+    @Test
+    @Tag("benchmark")
+    void batchDispatch_matchesAsManyOverShorterDistances() {
+        Random random = new Random(7);
+        double greedyDistance = 0;
+        double batchDistance = 0;
+        int greedyMatched = 0;
+        int batchMatched = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            Scenario generated = Scenario.generate(random);
+            Result greedy = runGreedy(generated);
+            Result batch = runBatch(generated);
+            greedyDistance += greedy.totalDistanceKm();
+            batchDistance += batch.totalDistanceKm();
+            greedyMatched += greedy.matched();
+            batchMatched += batch.matched();
+        }
+
+        assertTrue(batchMatched >= greedyMatched * (1 - TOLERANCE),
+            "batch matched " + batchMatched + ", greedy matched " + greedyMatched);
+        assertTrue(batchDistance / batchMatched <= greedyDistance / greedyMatched * (1 + TOLERANCE),
+            "batch travelled " + batchDistance + " km, greedy travelled " + greedyDistance + " km");
+    }
+
+    private Result runGreedy(Scenario scenario) {
+        ParamedicGridIndex index = scenario.index();
+        Set<UUID> busy = new HashSet<>();
+        double total = 0;
+        for (double[] emergency : scenario.emergencies()) {
+            var found = index.findNearest(emergency[0], emergency[1], RADIUS_KM, id -> !busy.contains(id));
+            if (found.isPresent()) {
+                busy.add(found.get().paramedicId());
+                total += GeoUtils.distanceKm(emergency[0], emergency[1], found.get().latitude(), found.get().longitude());
+            }
+        }
+        return new Result(busy.size(), total);
+    }
+
+    private Result runBatch(Scenario scenario) {
+        ParamedicGridIndex index = scenario.index();
+        Set<UUID> busy = new HashSet<>();
+        double total = 0;
+        List<double[]> emergencies = scenario.emergencies();
+        for (int from = 0; from < emergencies.size(); from += EMERGENCIES_PER_TICK) {
+            List<double[]> tick = emergencies.subList(from, Math.min(from + EMERGENCIES_PER_TICK, emergencies.size()));
+            List<Demand> demands = new ArrayList<>(tick.size());
+            for (double[] emergency : tick) {
+                List<ParamedicPosition> candidates = index
+                    .findNearest(emergency[0], emergency[1], RADIUS_KM, CANDIDATES, id -> !busy.contains(id))
+                    .stream()
+                    .map(ParamedicPosition::of)
+                    .toList();
+                demands.add(new Demand(new UUID(from, demands.size()), GeoPoint.of(emergency[0], emergency[1]), candidates));
+            }
+
+            Map<UUID, ParamedicPosition> matches = BatchAssignmentOptimizer.assign(demands);
+            for (Demand demand : demands) {
+                ParamedicPosition match = matches.get(demand.emergencyId());
+                if (match != null) {
+                    busy.add(match.paramedicId());
+                    total += demand.location().distanceKm(match.point());
+                }
+            }
+        }
+        return new Result(busy.size(), total);
+    }
+
+    private record Result(int matched, double totalDistanceKm) {
+    }
+
+    private record Scenario(ParamedicGridIndex index, List<double[]> emergencies) {
+
+        static Scenario generate(Random random) {
+            ParamedicGridIndex index = new ParamedicGridIndex(2);
+            for (int i = 0; i < PARAMEDICS; i++) {
+                UUID paramedicId = new UUID(random.nextLong(), random.nextLong());
+                index.upsert(paramedicId, randomLatitude(random), randomLongitude(random), Instant.EPOCH);
+            }
+            List<double[]> emergencies = new ArrayList<>(EMERGENCIES);
+            for (int i = 0; i < EMERGENCIES; i++) {
+                emergencies.add(new double[] {randomLatitude(random), randomLongitude(random)});
+            }
+            return new Scenario(index, emergencies);
+        }
+
+        private static double randomLatitude(Random random) {
+            return CENTER_LAT + (random.nextDouble() - 0.5) * CITY_SPAN_DEGREES;
+        }
+
+        private static double randomLongitude(Random random) {
+            return CENTER_LON + (random.nextDouble() - 0.5) * CITY_SPAN_DEGREES;
+        }
+    }
+}
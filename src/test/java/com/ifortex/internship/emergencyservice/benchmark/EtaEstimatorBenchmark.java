@@ -0,0 +1,139 @@
+package com.ifortex.internship.emergencyservice.benchmark;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.EtaEstimator;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicGridIndex;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Cost of ranking locator candidates by predicted travel time compared with the grid lookup that
+ * produces them. The speed profile is learned from a month of synthetic tracks across the city, so
+ * lookups hit a populated array. Run with {@code mvn test -Pbenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EtaEstimatorBenchmark {
+
+    private static final double CENTER_LAT = 53.9;
+    private static final double CENTER_LON = 27.56;
+    private static final double CITY_SPAN_DEGREES = 0.3;
+    private static final int PARAMEDICS = 2_000;
+    private static final int TRACKS = 5_000;
+    private static final int POINTS_PER_TRACK = 60;
+    private static final Instant NOW = Instant.parse("2026-01-01T08:30:00Z");
+
+    @Param({"5", "20"})
+    int candidates;
+
+    ParamedicGridIndex gridIndex;
+    EtaEstimator etaEstimator;
+    GeoPoint target;
+    List<ParamedicPosition> nearest;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Random random = new Random(5);
+        gridIndex = new ParamedicGridIndex(2);
+        for (int i = 0; i < PARAMEDICS; i++) {
+            gridIndex.upsert(UUID.randomUUID(), randomLatitude(random), randomLongitude(random), NOW);
+        }
+
+        EmergencyLocationRepository repository = mock(EmergencyLocationRepository.class);
+        doAnswer(invocation -> {
+            Consumer<TrackPoint> consumer = invocation.getArgument(1);
+            Random tracks = new Random(7);
+            for (int t = 0; t < TRACKS; t++) {
+                UUID emergencyId = UUID.randomUUID();
+                double latitude = randomLatitude(tracks);
+                double longitude = randomLongitude(tracks);
+                Instant at = NOW.minus(Duration.ofMinutes(tracks.nextInt(28 * 24 * 60)));
+                for (int p = 0; p < POINTS_PER_TRACK; p++) {
+                    latitude += (tracks.nextDouble() - 0.5) * 0.004;
+                    longitude += (tracks.nextDouble() - 0.5) * 0.006;
+                    consumer.accept(new TrackPoint(emergencyId, GeoPoint.of(latitude, longitude), at.plusSeconds(p * 10L)));
+                }
+            }
+            return null;
+        }).when(repository).forEachTrackPointSince(any(), any());
+        etaEstimator = new EtaEstimator(repository, mock(TaskScheduler.class), Clock.fixed(NOW, ZoneOffset.UTC),
+            1, 35, 1.3, Duration.ofDays(28), Duration.ofHours(6));
+        etaEstimator.refresh();
+
+        target = GeoPoint.of(CENTER_LAT, CENTER_LON);
+        nearest = lookup();
+    }
+
+    @Benchmark
+    public List<ParamedicPosition> lookup() {
+        return gridIndex.findNearest(target.latitude(), target.longitude(), 10, candidates, id -> true)
+            .stream()
+            .map(ParamedicPosition::of)
+            .toList();
+    }
+
+    @Benchmark
+    public List<ParamedicPosition> lookupAndRank() {
+        return etaEstimator.rank(lookup(), target);
+    }
+
+    @Benchmark
+    public List<ParamedicPosition> rank() {
+        return etaEstimator.rank(nearest, target);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(EtaEstimatorBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .forks(0)
+            .build()).run();
+    }
+
+    private static double randomLatitude(Random random) {
+        return CENTER_LAT + (random.nextDouble() - 0.5) * CITY_SPAN_DEGREES;
+    }
+
+    private static double randomLongitude(Random random) {
+        return CENTER_LON + (random.nextDouble() - 0.5) * CITY_SPAN_DEGREES;
+    }
+}
@@ -0,0 +1,117 @@
+package com.ifortex.internship.emergencyservice.benchmark;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.ParamedicLocation;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicGridIndex;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distance calculation and locator result mapping with {@code BigDecimal} coordinates versus
+ * {@link GeoPoint}. The GC profiler reports allocation per operation next to the throughput.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GeoPointBenchmark {
+
+    private static final int POINTS = 1_024;
+
+    BigDecimal[] decimalLatitudes;
+    BigDecimal[] decimalLongitudes;
+    GeoPoint[] points;
+    ParamedicGridIndex.Entry[] entries;
+    BigDecimal originLatitude;
+    BigDecimal originLongitude;
+    GeoPoint origin;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(3);
+        decimalLatitudes = new BigDecimal[POINTS];
+        decimalLongitudes = new BigDecimal[POINTS];
+        points = new GeoPoint[POINTS];
+        entries = new ParamedicGridIndex.Entry[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            double latitude = 53.9 + (random.nextDouble() - 0.5) * 0.2;
+            double longitude = 27.56 + (random.nextDouble() - 0.5) * 0.2;
+            points[i] = GeoPoint.of(latitude, longitude);
+            decimalLatitudes[i] = points[i].latitudeDecimal();
+            decimalLongitudes[i] = points[i].longitudeDecimal();
+            entries[i] = new ParamedicGridIndex.Entry(UUID.randomUUID(), latitude, longitude, Instant.EPOCH, 0);
+        }
+        origin = GeoPoint.of(53.9, 27.56);
+        originLatitude = origin.latitudeDecimal();
+        originLongitude = origin.longitudeDecimal();
+    }
+
+    @Benchmark
+    public double distanceBigDecimal() {
+        double total = 0;
+        for (int i = 0; i < POINTS; i++) {
+            total += GeoUtils.distanceKm(originLatitude.doubleValue(), originLongitude.doubleValue(),
+                decimalLatitudes[i].doubleValue(), decimalLongitudes[i].doubleValue());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double distanceGeoPoint() {
+        double total = 0;
+        for (int i = 0; i < POINTS; i++) {
+            total += origin.distanceKm(points[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void mapToParamedicLocation(Blackhole blackhole) {
+        for (ParamedicGridIndex.Entry entry : entries) {
+            blackhole.consume(new ParamedicLocation(entry.paramedicId(), BigDecimal.valueOf(entry.latitude()),
+                BigDecimal.valueOf(entry.longitude()), entry.updatedAt()));
+        }
+    }
+
+    @Benchmark
+    public void mapToParamedicPosition(Blackhole blackhole) {
+        for (ParamedicGridIndex.Entry entry : entries) {
+            blackhole.consume(ParamedicPosition.of(entry));
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(GeoPointBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .forks(0)
+            .build()).run();
+    }
+}
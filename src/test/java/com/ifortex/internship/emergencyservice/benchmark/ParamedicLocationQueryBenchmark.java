@@ -0,0 +1,253 @@
+package com.ifortex.internship.emergencyservice.benchmark;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.util.BoundingBox;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Nearest-paramedic SQL on 100k rows: the original full-scan acos query against the bounding-box
+ * query served by the (latitude, longitude) index and the precomputed trigonometric columns.
+ * JMH times both queries; the test alongside checks that they return the same paramedics.
+ * Needs Docker for the Postgres container. Run with {@code mvn test -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParamedicLocationQueryBenchmark {
+
+    private static final double CENTER_LAT = 53.5;
+    private static final double CENTER_LON = 28.0;
+    private static final double AREA_SPAN_DEGREES = 4.0;
+    private static final int PARAMEDICS = 100_000;
+    private static final int BUSY_PARAMEDICS = 2_000;
+    private static final int QUERIES = 500;
+    private static final double RADIUS_KM = 10;
+    private static final int LIMIT = 5;
+
+    private static final String FULL_SCAN_QUERY = """
+        SELECT paramedic_id
+        FROM paramedic_location
+        WHERE (
+            6371 * acos(
+                cos(radians(?)) * cos(radians(latitude)) *
+                cos(radians(longitude) - radians(?)) +
+                sin(radians(?)) * sin(radians(latitude))
+            )
+        ) <= ?
+          AND paramedic_id NOT IN (
+              SELECT paramedic_id FROM emergency WHERE status = 'ONGOING' AND paramedic_id IS NOT NULL
+          )
+        ORDER BY (
+            6371 * acos(
+                cos(radians(?)) * cos(radians(latitude)) *
+                cos(radians(longitude) - radians(?)) +
+                sin(radians(?)) * sin(radians(latitude))
+            )
+        )
+        LIMIT ?
+        """;
+
+    private static final String BOX_QUERY = """
+        SELECT paramedic_id
+        FROM (
+            SELECT location.paramedic_id,
+                   6371 * acos(LEAST(1.0,
+                       ? * location.sin_lat +
+                       ? * location.cos_lat * cos(location.lon_rad - ?)
+                   )) AS distance
+            FROM paramedic_location location
+            WHERE location.latitude BETWEEN CAST(? AS NUMERIC) AND CAST(? AS NUMERIC)
+              AND location.longitude BETWEEN CAST(? AS NUMERIC) AND CAST(? AS NUMERIC)
+              AND NOT EXISTS (
+                  SELECT 1 FROM emergency e WHERE e.status = 'ONGOING' AND e.paramedic_id = location.paramedic_id
+              )
+        ) candidate
+        WHERE distance <= ?
+        ORDER BY distance
+        LIMIT ?
+        """;
+
+    PostgreSQLContainer<?> postgres;
+    Connection connection;
+    List<GeoPoint> origins;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        seed(connection, new Random(17));
+        origins = new ArrayList<>();
+        Random random = new Random(23);
+        for (int i = 0; i < QUERIES; i++) {
+            origins.add(GeoPoint.of(randomLatitude(random), randomLongitude(random)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<UUID> fullScan() throws SQLException {
+        return runFullScan(connection, nextOrigin());
+    }
+
+    @Benchmark
+    public List<UUID> boundingBox() throws SQLException {
+        return runBox(connection, nextOrigin());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ParamedicLocationQueryBenchmark.class.getSimpleName())
+            .forks(0)
+            .build()).run();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void boundingBoxQuery_returnsSameParamedicsAsFullScan() throws SQLException {
+        setUp();
+        try {
+            for (GeoPoint origin : origins) {
+                assertEquals(runFullScan(connection, origin), runBox(connection, origin));
+            }
+        } finally {
+            tearDown();
+        }
+    }
+
+    private GeoPoint nextOrigin() {
+        GeoPoint origin = origins.get(next);
+        next = (next + 1) % origins.size();
+        return origin;
+    }
+
+    private void seed(Connection connection, Random random) throws SQLException {
+        List<UUID> paramedicIds = new ArrayList<>();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO paramedic_location (paramedic_id, latitude, longitude) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < PARAMEDICS; i++) {
+                UUID paramedicId = UUID.randomUUID();
+                paramedicIds.add(paramedicId);
+                GeoPoint point = GeoPoint.of(randomLatitude(random), randomLongitude(random));
+                insert.setObject(1, paramedicId);
+                insert.setBigDecimal(2, point.latitudeDecimal());
+                insert.setBigDecimal(3, point.longitudeDecimal());
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO emergency (id, client_id, paramedic_id, status) VALUES (?, ?, ?, 'ONGOING')")) {
+            for (int i = 0; i < BUSY_PARAMEDICS; i++) {
+                insert.setObject(1, UUID.randomUUID());
+                insert.setObject(2, UUID.randomUUID());
+                insert.setObject(3, paramedicIds.get(random.nextInt(paramedicIds.size())));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (PreparedStatement analyze = connection.prepareStatement("ANALYZE")) {
+            analyze.execute();
+        }
+    }
+
+    private List<UUID> runFullScan(Connection connection, GeoPoint origin) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(FULL_SCAN_QUERY)) {
+            for (int offset : new int[] {0, 4}) {
+                query.setDouble(offset + 1, origin.latitude());
+                query.setDouble(offset + 2, origin.longitude());
+                query.setDouble(offset + 3, origin.latitude());
+            }
+            query.setDouble(4, RADIUS_KM);
+            query.setInt(8, LIMIT);
+            return collect(query);
+        }
+    }
+
+    private List<UUID> runBox(Connection connection, GeoPoint origin) throws SQLException {
+        BoundingBox box = BoundingBox.around(origin, RADIUS_KM);
+        double latitudeRadians = Math.toRadians(origin.latitude());
+        try (PreparedStatement query = connection.prepareStatement(BOX_QUERY)) {
+            query.setDouble(1, Math.sin(latitudeRadians));
+            query.setDouble(2, Math.cos(latitudeRadians));
+            query.setDouble(3, Math.toRadians(origin.longitude()));
+            query.setBigDecimal(4, BigDecimal.valueOf(box.minLatitude()));
+            query.setBigDecimal(5, BigDecimal.valueOf(box.maxLatitude()));
+            query.setBigDecimal(6, BigDecimal.valueOf(box.minLongitude()));
+            query.setBigDecimal(7, BigDecimal.valueOf(box.maxLongitude()));
+            query.setDouble(8, RADIUS_KM);
+            query.setInt(9, LIMIT);
+            return collect(query);
+        }
+    }
+
+    private List<UUID> collect(PreparedStatement query) throws SQLException {
+        List<UUID> paramedicIds = new ArrayList<>();
+        try (ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                paramedicIds.add(rows.getObject(1, UUID.class));
+            }
+        }
+        return paramedicIds;
+    }
+
+    private static double randomLatitude(Random random) {
+        return CENTER_LAT + (random.nextDouble() - 0.5) * AREA_SPAN_DEGREES;
+    }
+
+    private static double randomLongitude(Random random) {
+        return CENTER_LON + (random.nextDouble() - 0.5) * AREA_SPAN_DEGREES;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ifortex.internship.emergencyservice.benchmark;
+
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicGridIndex;
+import com.ifortex.internship.emergencyservice.service.dispatch.ShardedParamedicIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearest-paramedic lookup throughput of the sharded index for a growing number of shard workers,
+ * alone and while position updates stream in. Queries are spread over a country-sized area so most
+ * of them stay inside one region. Updates are applied in batches and awaited, so the reported update
+ * rate is what the shards absorb rather than what can be queued. Run with {@code mvn test -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ShardedIndexBenchmark {
+
+    private static final double CENTER_LAT = 53.5;
+    private static final double CENTER_LON = 28.0;
+    private static final double AREA_SPAN_DEGREES = 4.0;
+    private static final int PARAMEDICS = 50_000;
+    private static final int UPDATE_BATCH = 256;
+    private static final double RADIUS_KM = 5;
+    private static final double REGION_SIZE_KM = 25;
+
+    @Param({"1", "2", "4", "8"})
+    int workers;
+
+    ShardedParamedicIndex index;
+    UUID[] paramedics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new ShardedParamedicIndex(workers, REGION_SIZE_KM, 1);
+        paramedics = new UUID[PARAMEDICS];
+        Random random = new Random(11);
+        for (int i = 0; i < PARAMEDICS; i++) {
+            paramedics[i] = UUID.randomUUID();
+            index.upsert(paramedics[i], randomLatitude(random), randomLongitude(random), Instant.EPOCH);
+        }
+        index.awaitUpdates();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.close();
+    }
+
+    @Benchmark
+    @Group("lookups")
+    @GroupThreads(8)
+    public List<ParamedicGridIndex.Entry> lookupOnly() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Group("lookupsWithUpdates")
+    @GroupThreads(6)
+    public List<ParamedicGridIndex.Entry> lookupWhileUpdating() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Group("lookupsWithUpdates")
+    @GroupThreads(2)
+    @OperationsPerInvocation(UPDATE_BATCH)
+    public void update() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < UPDATE_BATCH; i++) {
+            index.upsert(paramedics[random.nextInt(PARAMEDICS)], randomLatitude(random), randomLongitude(random), Instant.EPOCH);
+        }
+        index.awaitUpdates();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ShardedIndexBenchmark.class.getSimpleName())
+            .forks(0)
+            .build()).run();
+    }
+
+    private List<ParamedicGridIndex.Entry> lookup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return index.findNearest(randomLatitude(random), randomLongitude(random), RADIUS_KM, 5, id -> true);
+    }
+
+    private static double randomLatitude(Random random) {
+        return CENTER_LAT + (random.nextDouble() - 0.5) * AREA_SPAN_DEGREES;
+    }
+
+    private static double randomLongitude(Random random) {
+        return CENTER_LON + (random.nextDouble() - 0.5) * AREA_SPAN_DEGREES;
+    }
+}
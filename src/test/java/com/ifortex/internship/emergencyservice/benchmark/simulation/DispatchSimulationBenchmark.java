@@ -0,0 +1,65 @@
+package com.ifortex.internship.emergencyservice.benchmark.simulation;
+
+import com.ifortex.internship.emergencyservice.benchmark.simulation.DispatchSimulator.Report;
+import com.ifortex.internship.emergencyservice.benchmark.simulation.DispatchSimulator.Scenario;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMode;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Four hours of virtual dispatch per scenario, from a calm shift to a surge that outruns the fleet.
+ * Each report is published through the JUnit test reporter. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class DispatchSimulationBenchmark {
+
+    private static final List<Scenario> SCENARIOS = List.of(
+        Scenario.city("calm-greedy", 300, 60, DispatchMode.GREEDY),
+        Scenario.city("busy-greedy", 300, 400, DispatchMode.GREEDY),
+        Scenario.city("busy-batch", 300, 400, DispatchMode.BATCH),
+        Scenario.city("surge-greedy", 300, 1_200, DispatchMode.GREEDY)
+    );
+
+    @Test
+    void runScenarios(TestReporter reporter) {
+        for (Scenario scenario : SCENARIOS) {
+            Report report = new DispatchSimulator(scenario).run();
+            reporter.publishEntry(scenario.name(), report.format());
+
+            assertTrue(report.assigned() > 0);
+            assertEquals(report.emergencies(), report.assigned() + report.reserveHandled() + report.waiting());
+        }
+    }
+
+    @Test
+    void calmShift_nobodyHandedToReserve() {
+        Report report = new DispatchSimulator(SCENARIOS.get(0)).run();
+
+        assertEquals(0, report.reserveHandled());
+    }
+
+    @Test
+    void surge_outrunsTheFleet() {
+        Report report = new DispatchSimulator(SCENARIOS.get(3)).run();
+
+        assertTrue(report.reserveHandled() + report.waiting() > 0);
+    }
+
+    @Test
+    void sameScenario_sameOutcome() {
+        Scenario scenario = SCENARIOS.get(1);
+        Report first = new DispatchSimulator(scenario).run();
+        Report second = new DispatchSimulator(scenario).run();
+
+        assertEquals(first.assigned(), second.assigned());
+        assertEquals(first.reserveHandled(), second.reserveHandled());
+        assertEquals(first.p90TimeToAssign(), second.p90TimeToAssign());
+        assertEquals(first.databaseQueriesPerAssignment(), second.databaseQueriesPerAssignment());
+    }
+}
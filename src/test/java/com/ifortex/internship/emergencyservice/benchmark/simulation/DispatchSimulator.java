@@ -0,0 +1,402 @@
+package com.ifortex.internship.emergencyservice.benchmark.simulation;
+
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicReleasedEvent;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
+import com.ifortex.internship.emergencyservice.model.emergency.EmergencyLocation;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencyAssignmentSnapshot;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencySnapshot;
+import com.ifortex.internship.emergencyservice.repository.EmergencyAssignmentRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepository;
+import com.ifortex.internship.emergencyservice.repository.ParamedicClaimRepository;
+import com.ifortex.internship.emergencyservice.repository.PendingSearchRepository;
+import com.ifortex.internship.emergencyservice.service.ParamedicSearchService;
+import com.ifortex.internship.emergencyservice.service.dispatch.BusyParamedicRegistry;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMetrics;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMode;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchProperties;
+import com.ifortex.internship.emergencyservice.service.dispatch.EtaEstimator;
+import com.ifortex.internship.emergencyservice.service.dispatch.FixedSearchRadiusPolicy;
+import com.ifortex.internship.emergencyservice.service.dispatch.LocalDispatchCoordinator;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicCandidateCache;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicCandidateFinder;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicGridIndex;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicLocator;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import com.ifortex.internship.emergencyservice.util.EmergencyAssignmentMapper;
+import com.ifortex.internship.emergencyservice.util.EmergencyLocationMapper;
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+import com.ifortex.internship.emergencyservice.util.PendingSearchMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.mockito.listeners.InvocationListener;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs {@link ParamedicSearchService} against a synthetic city in virtual time. Paramedics drift
+ * around the city and report their position, emergencies arrive as a Poisson process, and every
+ * assigned paramedic is released again after a random service time. Postgres and Mongo are replaced
+ * by map-backed stand-ins and the SQL locator by a grid lookup counted as one query, so a run is
+ * single-threaded and depends only on the scenario.
+ */
+public class DispatchSimulator {
+
+    private static final Instant START = Instant.parse("2025-01-01T08:00:00Z");
+    private static final Duration LOCATION_TTL = Duration.ofMinutes(15);
+    private static final int CANDIDATES = 5;
+
+    private final Scenario scenario;
+    private final Random random;
+    private final SimulationClock clock = new SimulationClock(START);
+    private final VirtualTimeScheduler scheduler = new VirtualTimeScheduler(clock);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ParamedicGridIndex gridIndex = new ParamedicGridIndex(2);
+
+    private final Map<UUID, Emergency> emergencies = new LinkedHashMap<>();
+    private final Map<String, EmergencySnapshot> snapshots = new HashMap<>();
+    private final Map<UUID, UUID> claims = new HashMap<>();
+    private final Set<UUID> busyInDatabase = new HashSet<>();
+    private final Map<UUID, Instant> createdAt = new HashMap<>();
+    private final List<Duration> timesToAssign = new ArrayList<>();
+    private final List<UUID> paramedicIds = new ArrayList<>();
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private final long[] databaseQueries = new long[1];
+    private final long[] documentOperations = new long[1];
+    private final BusyParamedicRegistry busyParamedicRegistry;
+    private final ParamedicSearchService paramedicSearchService;
+    private int reserveHandled;
+
+    public DispatchSimulator(Scenario scenario) {
+        this.scenario = scenario;
+        this.random = new Random(scenario.seed());
+        this.latitudes = new double[scenario.paramedics()];
+        this.longitudes = new double[scenario.paramedics()];
+
+        InvocationListener databaseListener = invocation -> databaseQueries[0]++;
+        InvocationListener documentListener = invocation -> documentOperations[0]++;
+        EmergencyRepository emergencyRepository = mock(EmergencyRepository.class, withSettings().invocationListeners(databaseListener));
+        EmergencyLocationRepository emergencyLocationRepository = mock(EmergencyLocationRepository.class, withSettings().invocationListeners(databaseListener));
+        EmergencyAssignmentRepository emergencyAssignmentRepository = mock(EmergencyAssignmentRepository.class, withSettings().invocationListeners(databaseListener));
+        ParamedicClaimRepository paramedicClaimRepository = mock(ParamedicClaimRepository.class, withSettings().invocationListeners(databaseListener));
+        PendingSearchRepository pendingSearchRepository = mock(PendingSearchRepository.class, withSettings().invocationListeners(databaseListener));
+        EmergencySnapshotRepository emergencySnapshotRepository = mock(EmergencySnapshotRepository.class, withSettings().invocationListeners(documentListener));
+        EmergencyLocationMapper emergencyLocationMapper = mock(EmergencyLocationMapper.class);
+        EmergencyAssignmentMapper emergencyAssignmentMapper = mock(EmergencyAssignmentMapper.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+        when(emergencyRepository.findByIdForUpdate(any())).thenAnswer(invocation ->
+            Optional.ofNullable(emergencies.get(invocation.<UUID>getArgument(0))));
+        when(emergencyRepository.save(any(Emergency.class))).thenAnswer(invocation -> {
+            Emergency emergency = invocation.getArgument(0);
+            onEmergencySaved(emergency);
+            return emergency;
+        });
+        when(emergencyRepository.findParamedicIdsByStatus(EmergencyStatus.ONGOING)).thenAnswer(invocation -> Set.copyOf(busyInDatabase));
+        when(paramedicClaimRepository.claim(any(), any())).thenAnswer(invocation -> claim(invocation.getArgument(0), invocation.getArgument(1)));
+        when(emergencySnapshotRepository.findById(anyString())).thenAnswer(invocation ->
+            Optional.ofNullable(snapshots.get(invocation.<String>getArgument(0))));
+        when(emergencySnapshotRepository.close(anyString(), any(), any())).thenAnswer(invocation ->
+            snapshots.containsKey(invocation.<String>getArgument(0)));
+        when(emergencyLocationMapper.toList(any())).thenReturn(List.of());
+        when(emergencyAssignmentMapper.toSnapshot(any())).thenAnswer(invocation -> new EmergencyAssignmentSnapshot());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        DispatchMetrics dispatchMetrics = new DispatchMetrics(meterRegistry);
+        ParamedicSearchService[] service = new ParamedicSearchService[1];
+        this.busyParamedicRegistry = new BusyParamedicRegistry(emergencyRepository, event -> {
+            if (event instanceof ParamedicReleasedEvent released) {
+                service[0].onParamedicReleased(released);
+            }
+        }, dispatchMetrics, scheduler, Duration.ofMinutes(5));
+        ParamedicCandidateCache paramedicCandidateCache = new ParamedicCandidateCache(dispatchMetrics);
+        DispatchProperties dispatchProperties = new DispatchProperties(
+            scenario.mode(), CANDIDATES, LOCATION_TTL, new DispatchProperties.Batch(Duration.ofSeconds(2)));
+        EtaEstimator etaEstimator = new EtaEstimator(
+            emergencyLocationRepository, scheduler, clock, 1, 35, 1.3, Duration.ofDays(28), Duration.ofHours(6));
+        SimulatedSqlLocator locator = new SimulatedSqlLocator();
+        this.paramedicSearchService = new ParamedicSearchService(
+            emergencyRepository,
+            emergencyLocationMapper,
+            emergencyAssignmentMapper,
+            emergencySnapshotRepository,
+            emergencyLocationRepository,
+            emergencyAssignmentRepository,
+            transactionTemplate,
+            scheduler,
+            locator,
+            pendingSearchRepository,
+            Mappers.getMapper(PendingSearchMapper.class),
+            dispatchMetrics,
+            paramedicCandidateCache,
+            new ParamedicCandidateFinder(locator, paramedicCandidateCache, paramedicClaimRepository,
+                busyParamedicRegistry, etaEstimator, dispatchMetrics, clock, dispatchProperties),
+            new FixedSearchRadiusPolicy(scenario.radiusKm()),
+            busyParamedicRegistry,
+            clock,
+            new LocalDispatchCoordinator(pendingSearchRepository),
+            event -> { },
+            dispatchProperties
+        );
+        service[0] = paramedicSearchService;
+        databaseQueries[0] = 0;
+        documentOperations[0] = 0;
+    }
+
+    public Report run() {
+        for (int i = 0; i < scenario.paramedics(); i++) {
+            paramedicIds.add(nextId());
+            latitudes[i] = randomLatitude();
+            longitudes[i] = randomLongitude();
+            gridIndex.upsert(paramedicIds.get(i), latitudes[i], longitudes[i], clock.instant());
+        }
+        if (scenario.mode() == DispatchMode.BATCH) {
+            paramedicSearchService.startBatchDispatch();
+        }
+        scheduler.scheduleAtFixedRate(this::moveParamedics, START.plus(scenario.movementInterval()), scenario.movementInterval());
+        scheduleNextArrival();
+
+        long started = System.nanoTime();
+        scheduler.runUntil(START.plus(scenario.duration()));
+        double wallSeconds = (System.nanoTime() - started) / 1e9;
+
+        int assigned = timesToAssign.size();
+        int waiting = (int) emergencies.values().stream()
+            .filter(emergency -> emergency.getStatus() == EmergencyStatus.ONGOING && emergency.getParamedicId() == null)
+            .count();
+        List<Duration> sorted = timesToAssign.stream().sorted().toList();
+        double hits = meterRegistry.counter("dispatch.candidates.cache", "result", "hit").count();
+        double misses = meterRegistry.counter("dispatch.candidates.cache", "result", "miss").count();
+        return new Report(
+            scenario.name(),
+            emergencies.size(),
+            assigned,
+            reserveHandled,
+            waiting,
+            wallSeconds,
+            assigned / wallSeconds,
+            percentile(sorted, 0.50),
+            percentile(sorted, 0.90),
+            percentile(sorted, 0.99),
+            assigned == 0 ? 0 : (double) databaseQueries[0] / assigned,
+            assigned == 0 ? 0 : (double) documentOperations[0] / assigned,
+            hits + misses == 0 ? 0 : hits / (hits + misses)
+        );
+    }
+
+    private void scheduleNextArrival() {
+        double hours = -Math.log(1 - random.nextDouble()) / scenario.arrivalsPerHour();
+        Instant at = clock.instant().plusMillis((long) (hours * 3_600_000));
+        if (at.isBefore(START.plus(scenario.duration()))) {
+            scheduler.schedule(this::arrive, at);
+        }
+    }
+
+    private void arrive() {
+        Emergency emergency = new Emergency().setClientId(nextId()).setStatus(EmergencyStatus.ONGOING);
+        emergency.setId(nextId());
+        GeoPoint point = GeoPoint.of(randomLatitude(), randomLongitude());
+        EmergencyLocation location = new EmergencyLocation()
+            .setEmergency(emergency)
+            .setLocationType(EmergencyLocationType.INITIATOR)
+            .setLatitude(point.latitudeDecimal())
+            .setLongitude(point.longitudeDecimal());
+        emergency.getLocations().add(location);
+        emergencies.put(emergency.getId(), emergency);
+        snapshots.put(emergency.getId().toString(), new EmergencySnapshot()
+            .setId(emergency.getId().toString())
+            .setStatus(EmergencyStatus.ONGOING)
+            .setLocations(new ArrayList<>()));
+        createdAt.put(emergency.getId(), clock.instant());
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        scheduleNextArrival();
+    }
+
+    private void moveParamedics() {
+        Instant now = clock.instant();
+        double stepDegrees = scenario.movementStepKm() / GeoUtils.KM_PER_DEGREE;
+        for (int i = 0; i < paramedicIds.size(); i++) {
+            UUID paramedicId = paramedicIds.get(i);
+            if (busyInDatabase.contains(paramedicId)) {
+                gridIndex.upsert(paramedicId, latitudes[i], longitudes[i], now);
+                continue;
+            }
+            latitudes[i] = clamp(latitudes[i] + (random.nextDouble() * 2 - 1) * stepDegrees,
+                scenario.centerLatitude(), halfSpanLatitude());
+            longitudes[i] = clamp(longitudes[i] + (random.nextDouble() * 2 - 1) * stepDegrees,
+                scenario.centerLongitude(), halfSpanLongitude());
+            gridIndex.upsert(paramedicId, latitudes[i], longitudes[i], now);
+            paramedicSearchService.onParamedicLocationChanged(
+                new ParamedicLocationChangedEvent(paramedicId, latitudes[i], longitudes[i], now));
+        }
+    }
+
+    private void onEmergencySaved(Emergency emergency) {
+        if (emergency.getStatus() == EmergencyStatus.RESERVE_HANDLED) {
+            reserveHandled++;
+            return;
+        }
+        UUID paramedicId = emergency.getParamedicId();
+        if (paramedicId == null || emergency.getStatus() != EmergencyStatus.ONGOING || !busyInDatabase.add(paramedicId)) {
+            return;
+        }
+        timesToAssign.add(Duration.between(createdAt.get(emergency.getId()), clock.instant()));
+        long serviceSeconds = scenario.minServiceTime().toSeconds()
+            + (long) (random.nextDouble() * (scenario.maxServiceTime().toSeconds() - scenario.minServiceTime().toSeconds()));
+        scheduler.schedule(() -> complete(emergency), clock.instant().plusSeconds(serviceSeconds));
+    }
+
+    private void complete(Emergency emergency) {
+        emergency.setStatus(EmergencyStatus.COMPLETED);
+        busyInDatabase.remove(emergency.getParamedicId());
+        busyParamedicRegistry.release(emergency.getParamedicId());
+    }
+
+    private int claim(UUID paramedicId, UUID emergencyId) {
+        UUID current = claims.get(paramedicId);
+        if (current != null && emergencies.get(current).getStatus() == EmergencyStatus.ONGOING) {
+            return 0;
+        }
+        claims.put(paramedicId, emergencyId);
+        return 1;
+    }
+
+    private UUID nextId() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    private double randomLatitude() {
+        return scenario.centerLatitude() + (random.nextDouble() * 2 - 1) * halfSpanLatitude();
+    }
+
+    private double randomLongitude() {
+        return scenario.centerLongitude() + (random.nextDouble() * 2 - 1) * halfSpanLongitude();
+    }
+
+    private double halfSpanLatitude() {
+        return scenario.citySpanKm() / 2 / GeoUtils.KM_PER_DEGREE;
+    }
+
+    private double halfSpanLongitude() {
+        return halfSpanLatitude() / Math.cos(Math.toRadians(scenario.centerLatitude()));
+    }
+
+    private static double clamp(double value, double center, double halfSpan) {
+        return Math.max(center - halfSpan, Math.min(center + halfSpan, value));
+    }
+
+    private static Duration percentile(List<Duration> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return Duration.ZERO;
+        }
+        return sorted.get(Math.max(0, (int) Math.ceil(percentile * sorted.size()) - 1));
+    }
+
+    /**
+     * Stand-in for the SQL locator: the same answers from the grid, with busy paramedics taken from
+     * the simulated emergency table. Each call counts as one query.
+     */
+    private final class SimulatedSqlLocator implements ParamedicLocator {
+
+        @Override
+        public List<ParamedicPosition> findNearestAvailable(GeoPoint origin, double radiusKm, int limit) {
+            databaseQueries[0]++;
+            return gridIndex.findNearest(origin.latitude(), origin.longitude(), radiusKm, limit, id -> !busyInDatabase.contains(id))
+                .stream()
+                .map(ParamedicPosition::of)
+                .toList();
+        }
+
+        @Override
+        public Optional<ParamedicPosition> findPosition(UUID paramedicId) {
+            databaseQueries[0]++;
+            return gridIndex.get(paramedicId).map(ParamedicPosition::of);
+        }
+
+        @Override
+        public double[] availableDistances(GeoPoint origin, double radiusKm) {
+            databaseQueries[0]++;
+            Instant freshSince = clock.instant().minus(LOCATION_TTL);
+            return gridIndex.distancesWithin(origin.latitude(), origin.longitude(), radiusKm,
+                entry -> !entry.updatedAt().isBefore(freshSince) && !busyInDatabase.contains(entry.paramedicId()));
+        }
+    }
+
+    public record Scenario(String name,
+                           long seed,
+                           int paramedics,
+                           double arrivalsPerHour,
+                           Duration duration,
+                           double centerLatitude,
+                           double centerLongitude,
+                           double citySpanKm,
+                           Duration movementInterval,
+                           double movementStepKm,
+                           Duration minServiceTime,
+                           Duration maxServiceTime,
+                           DispatchMode mode,
+                           double radiusKm) {
+
+        /**
+         * A 20 km city observed for four hours, with paramedics moving every 30 seconds and
+         * spending 20 to 50 minutes on each emergency.
+         */
+        public static Scenario city(String name, int paramedics, double arrivalsPerHour, DispatchMode mode) {
+            return new Scenario(name, 42, paramedics, arrivalsPerHour, Duration.ofHours(4), 53.90, 27.56, 20,
+                Duration.ofSeconds(30), 0.15, Duration.ofMinutes(20), Duration.ofMinutes(50), mode, 10);
+        }
+    }
+
+    public record Report(String scenario,
+                         int emergencies,
+                         int assigned,
+                         int reserveHandled,
+                         int waiting,
+                         double wallSeconds,
+                         double assignmentsPerSecond,
+                         Duration p50TimeToAssign,
+                         Duration p90TimeToAssign,
+                         Duration p99TimeToAssign,
+                         double databaseQueriesPerAssignment,
+                         double documentOperationsPerAssignment,
+                         double candidateCacheHitRatio) {
+
+        public String format() {
+            return String.format(
+                "%s: emergencies=%d assigned=%d reserve=%d waiting=%d wall=%.2fs throughput=%.0f assignments/s "
+                    + "time-to-assign p50=%ds p90=%ds p99=%ds db-queries/assignment=%.1f mongo-ops/assignment=%.1f "
+                    + "candidate-cache-hits=%.0f%%",
+                scenario, emergencies, assigned, reserveHandled, waiting, wallSeconds, assignmentsPerSecond,
+                p50TimeToAssign.toSeconds(), p90TimeToAssign.toSeconds(), p99TimeToAssign.toSeconds(),
+                databaseQueriesPerAssignment, documentOperationsPerAssignment, candidateCacheHitRatio * 100);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ifortex.internship.emergencyservice.benchmark.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock that only moves when the simulation advances it.
+ */
+public class SimulationClock extends Clock {
+
+    private Instant now;
+
+    public SimulationClock(Instant start) {
+        this.now = start;
+    }
+
+    void advanceTo(Instant instant) {
+        if (instant.isAfter(now)) {
+            now = instant;
+        }
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("Simulation clock is always UTC");
+    }
+}
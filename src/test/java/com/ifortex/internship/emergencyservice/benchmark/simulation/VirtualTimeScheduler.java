@@ -0,0 +1,160 @@
+package com.ifortex.internship.emergencyservice.benchmark.simulation;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded {@link TaskScheduler} over virtual time. Tasks run in order of their due time,
+ * ties in submission order, and the clock jumps straight to each task's due time, so a run is
+ * fully determined by its inputs.
+ */
+public class VirtualTimeScheduler implements TaskScheduler {
+
+    private final SimulationClock clock;
+    private final PriorityQueue<VirtualTask> queue = new PriorityQueue<>(
+        Comparator.comparing(VirtualTask::dueAt).thenComparingLong(VirtualTask::sequence));
+    private long sequence;
+
+    public VirtualTimeScheduler(SimulationClock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        return enqueue(task, startTime, null);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        throw new UnsupportedOperationException("Trigger-based scheduling is not simulated");
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        return enqueue(task, startTime, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        return enqueue(task, clock.instant(), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        return enqueue(task, startTime, delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        return enqueue(task, clock.instant(), delay);
+    }
+
+    /**
+     * Runs every task due up to {@code end} and leaves the clock at {@code end}.
+     */
+    public void runUntil(Instant end) {
+        while (!queue.isEmpty() && !queue.peek().dueAt().isAfter(end)) {
+            VirtualTask task = queue.poll();
+            if (task.isCancelled()) {
+                continue;
+            }
+            clock.advanceTo(task.dueAt());
+            task.runnable.run();
+            if (task.period != null && !task.isCancelled()) {
+                task.reschedule(clock.instant().plus(task.period), sequence++);
+                queue.add(task);
+            }
+        }
+        clock.advanceTo(end);
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    private VirtualTask enqueue(Runnable task, Instant dueAt, Duration period) {
+        Instant at = dueAt.isBefore(clock.instant()) ? clock.instant() : dueAt;
+        VirtualTask virtualTask = new VirtualTask(task, at, period, sequence++);
+        queue.add(virtualTask);
+        return virtualTask;
+    }
+
+    private static final class VirtualTask implements ScheduledFuture<Object> {
+
+        private final Runnable runnable;
+        private final Duration period;
+        private Instant dueAt;
+        private long sequence;
+        private boolean cancelled;
+
+        VirtualTask(Runnable runnable, Instant dueAt, Duration period, long sequence) {
+            this.runnable = runnable;
+            this.dueAt = dueAt;
+            this.period = period;
+            this.sequence = sequence;
+        }
+
+        Instant dueAt() {
+            return dueAt;
+        }
+
+        long sequence() {
+            return sequence;
+        }
+
+        void reschedule(Instant nextDueAt, long nextSequence) {
+            dueAt = nextDueAt;
+            sequence = nextSequence;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled;
+        }
+
+        @Override
+        public Object get() {
+            return null;
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) {
+            return null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
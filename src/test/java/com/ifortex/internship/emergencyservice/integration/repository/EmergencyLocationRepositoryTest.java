@@ -0,0 +1,73 @@
+package com.ifortex.internship.emergencyservice.integration.repository;
+
+import com.ifortex.internship.emergencyservice.integration.PostgresRepositoryTest;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
+import com.ifortex.internship.emergencyservice.model.emergency.EmergencyLocation;
+import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.util.TransactionUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmergencyLocationRepositoryTest extends PostgresRepositoryTest {
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired private EmergencyLocationRepository emergencyLocationRepository;
+    @Autowired private EmergencyRepository emergencyRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emergencyLocationRepository.deleteAllInBatch();
+        emergencyRepository.deleteAllInBatch();
+    }
+
+    /**
+     * A cancel releases the paramedic after its transaction commits, and the final track flush runs from
+     * there. The points must still be committed.
+     */
+    @Test
+    void appendTrackPoints_afterCommitCallback_persistsPoints() {
+        Emergency created = new Emergency().setClientId(UUID.randomUUID()).setStatus(EmergencyStatus.ONGOING);
+        UUID emergencyId = transactionTemplate.execute(status -> emergencyRepository.save(created).getId());
+        List<TrackPoint> points = List.of(
+            new TrackPoint(emergencyId, GeoPoint.of(53.9, 27.56), NOW),
+            new TrackPoint(emergencyId, GeoPoint.of(53.901, 27.56), NOW.plusSeconds(1)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            emergencyRepository.findByIdForUpdate(emergencyId)
+                .ifPresent(emergency -> emergencyRepository.save(emergency.setStatus(EmergencyStatus.CANCELLED)));
+            TransactionUtils.runAfterCommit(() -> emergencyLocationRepository.appendTrackPoints(points));
+        });
+
+        List<Instant> stored = emergencyLocationRepository
+            .findByEmergencyIdAndLocationTypeOrderByTimestampAsc(emergencyId, EmergencyLocationType.PARAMEDIC_TRACK)
+            .stream()
+            .map(EmergencyLocation::getTimestamp)
+            .toList();
+        assertEquals(List.of(NOW, NOW.plusSeconds(1)), stored);
+    }
+}
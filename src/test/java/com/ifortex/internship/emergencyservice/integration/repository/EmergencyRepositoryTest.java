@@ -0,0 +1,93 @@
+package com.ifortex.internship.emergencyservice.integration.repository;
+
+import com.ifortex.internship.emergencyservice.integration.PostgresRepositoryTest;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmergencyRepositoryTest extends PostgresRepositoryTest {
+
+    @Autowired private EmergencyRepository emergencyRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emergencyRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Mirrors EmergencyService.cancelCurrentEmergency racing ParamedicSearchService.assign: the cancel must
+     * wait for the assignment to commit and keep its paramedic instead of saving a stale row over it.
+     */
+    @Test
+    void cancelLookup_waitsForInFlightAssignment() throws Exception {
+        UUID clientId = UUID.randomUUID();
+        UUID paramedicId = UUID.randomUUID();
+        Emergency created = new Emergency().setClientId(clientId).setStatus(EmergencyStatus.ONGOING);
+        UUID emergencyId = transactionTemplate.execute(status -> emergencyRepository.save(created).getId());
+
+        CountDownLatch assignmentLocked = new CountDownLatch(1);
+        CountDownLatch commitAssignment = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> assignment = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                Emergency emergency = emergencyRepository.findByIdForUpdate(emergencyId).orElseThrow();
+                emergencyRepository.save(emergency.setParamedicId(paramedicId));
+                assignmentLocked.countDown();
+                await(commitAssignment);
+            }));
+            assertTrue(assignmentLocked.await(10, TimeUnit.SECONDS));
+
+            Future<?> cancel = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                Emergency emergency = emergencyRepository.findByClientIdAndStatusForUpdate(clientId, EmergencyStatus.ONGOING)
+                    .orElseThrow();
+                emergencyRepository.save(emergency.setStatus(EmergencyStatus.CANCELLED));
+            }));
+            Thread.sleep(300);
+            assertFalse(cancel.isDone());
+
+            commitAssignment.countDown();
+            assignment.get(10, TimeUnit.SECONDS);
+            cancel.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Emergency result = emergencyRepository.findById(emergencyId).orElseThrow();
+        assertEquals(EmergencyStatus.CANCELLED, result.getStatus());
+        assertEquals(paramedicId, result.getParamedicId());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
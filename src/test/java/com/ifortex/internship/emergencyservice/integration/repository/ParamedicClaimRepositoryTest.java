@@ -0,0 +1,146 @@
+package com.ifortex.internship.emergencyservice.integration.repository;
+
+import com.ifortex.internship.emergencyservice.integration.PostgresRepositoryTest;
+import com.ifortex.internship.emergencyservice.model.ParamedicClaim;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.repository.ParamedicClaimRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Many emergencies race for the same few paramedics, each trying the candidates in the same order
+ * as searches around one location would.
+ */
+class ParamedicClaimRepositoryTest extends PostgresRepositoryTest {
+
+    private static final int EMERGENCIES = 40;
+    private static final int PARAMEDICS = 10;
+    private static final int THREADS = 16;
+
+    @Autowired private ParamedicClaimRepository paramedicClaimRepository;
+    @Autowired private EmergencyRepository emergencyRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        paramedicClaimRepository.deleteAllInBatch();
+        emergencyRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void parallelClaims_neverReserveOneParamedicTwice() throws Exception {
+        List<UUID> paramedics = new ArrayList<>();
+        for (int i = 0; i < PARAMEDICS; i++) {
+            paramedics.add(UUID.randomUUID());
+        }
+        Map<UUID, List<UUID>> winners = new ConcurrentHashMap<>();
+        List<Runnable> searches = new ArrayList<>();
+        for (int i = 0; i < EMERGENCIES; i++) {
+            UUID emergencyId = createEmergency(EmergencyStatus.ONGOING);
+            searches.add(() -> {
+                for (UUID paramedicId : paramedics) {
+                    if (claim(paramedicId, emergencyId)) {
+                        winners.computeIfAbsent(paramedicId, id -> new CopyOnWriteArrayList<>()).add(emergencyId);
+                        return;
+                    }
+                }
+            });
+        }
+
+        runConcurrently(searches);
+
+        assertEquals(PARAMEDICS, winners.size());
+        winners.values().forEach(emergencies -> assertEquals(1, emergencies.size()));
+        Map<UUID, UUID> claims = paramedicClaimRepository.findAll().stream()
+            .collect(Collectors.toMap(ParamedicClaim::getParamedicId, ParamedicClaim::getEmergencyId));
+        assertEquals(PARAMEDICS, claims.size());
+        winners.forEach((paramedicId, emergencies) -> assertEquals(emergencies.get(0), claims.get(paramedicId)));
+        assertEquals(PARAMEDICS, claims.values().stream().distinct().count());
+    }
+
+    @Test
+    void claim_heldByOngoingEmergency_isRejected() {
+        UUID paramedicId = UUID.randomUUID();
+        UUID first = createEmergency(EmergencyStatus.ONGOING);
+        UUID second = createEmergency(EmergencyStatus.ONGOING);
+
+        assertTrue(claim(paramedicId, first));
+        assertFalse(claim(paramedicId, second));
+        assertEquals(first, paramedicClaimRepository.findById(paramedicId).map(ParamedicClaim::getEmergencyId).orElseThrow());
+    }
+
+    @Test
+    void claim_heldByClosedEmergency_isTakenOver() {
+        UUID paramedicId = UUID.randomUUID();
+        UUID cancelled = createEmergency(EmergencyStatus.ONGOING);
+        UUID next = createEmergency(EmergencyStatus.ONGOING);
+        assertTrue(claim(paramedicId, cancelled));
+
+        transactionTemplate.executeWithoutResult(status -> emergencyRepository.findById(cancelled)
+            .map(emergency -> emergency.setStatus(EmergencyStatus.CANCELLED))
+            .ifPresent(emergencyRepository::save));
+
+        assertTrue(claim(paramedicId, next));
+        assertEquals(next, paramedicClaimRepository.findById(paramedicId).map(ParamedicClaim::getEmergencyId).orElseThrow());
+    }
+
+    private boolean claim(UUID paramedicId, UUID emergencyId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+            paramedicClaimRepository.claim(paramedicId, emergencyId) == 1));
+    }
+
+    private UUID createEmergency(EmergencyStatus status) {
+        Emergency emergency = new Emergency().setClientId(UUID.randomUUID()).setStatus(status);
+        return transactionTemplate.execute(tx -> emergencyRepository.save(emergency).getId());
+    }
+
+    private void runConcurrently(List<Runnable> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ifortex.internship.emergencyservice.unit.controller;
+
+import com.ifortex.internship.emergencyservice.controller.ParamedicLocationStreamHandler;
+import com.ifortex.internship.emergencyservice.dto.request.LocationFrame;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.service.ParamedicLocationService;
+import com.ifortex.internship.medstarter.security.model.UserDetailsImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParamedicLocationStreamHandlerTest {
+
+    private static final Instant RECORDED_AT = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock private ParamedicLocationService paramedicLocationService;
+    @Mock private WebSocketSession session;
+
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final UUID paramedicId = UUID.randomUUID();
+    private ParamedicLocationStreamHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ParamedicLocationStreamHandler(paramedicLocationService);
+        lenient().when(session.getAttributes()).thenReturn(attributes);
+    }
+
+    @Test
+    void handleMessage_severalFrames_reportsMostRecentOnly() throws Exception {
+        connectAsParamedic();
+        LocationFrame older = new LocationFrame(53_900_000, 27_559_000, RECORDED_AT.toEpochMilli());
+        LocationFrame latest = new LocationFrame(53_901_250, 27_560_500, RECORDED_AT.plusSeconds(3).toEpochMilli());
+
+        handler.handleMessage(session, message(List.of(latest, older)));
+
+        verify(paramedicLocationService).reportLocation(paramedicId, new GeoPoint(53_901_250, 27_560_500), RECORDED_AT.plusSeconds(3));
+        verify(paramedicLocationService, never()).reportLocation(paramedicId, new GeoPoint(53_900_000, 27_559_000), RECORDED_AT);
+    }
+
+    @Test
+    void handleMessage_truncatedFrame_closesWithBadData() throws Exception {
+        connectAsParamedic();
+
+        handler.handleMessage(session, new BinaryMessage(new byte[LocationFrame.SIZE - 1]));
+
+        verify(session).close(CloseStatus.BAD_DATA.withReason("Malformed location frame"));
+        verify(paramedicLocationService, never()).reportLocation(any(), any(), any());
+    }
+
+    @Test
+    void handleMessage_latitudeOutOfRange_closesWithBadData() throws Exception {
+        connectAsParamedic();
+
+        handler.handleMessage(session, message(List.of(new LocationFrame(91_000_000, 0, RECORDED_AT.toEpochMilli()))));
+
+        verify(session).close(CloseStatus.BAD_DATA.withReason("Malformed location frame"));
+    }
+
+    @Test
+    void afterConnectionEstablished_noAuthenticatedParamedic_closesSession() throws Exception {
+        when(session.getPrincipal()).thenReturn(null);
+
+        handler.afterConnectionEstablished(session);
+
+        verify(session).close(CloseStatus.POLICY_VIOLATION);
+    }
+
+    private void connectAsParamedic() throws Exception {
+        UserDetailsImpl paramedic = mock(UserDetailsImpl.class);
+        when(paramedic.getAccountId()).thenReturn(paramedicId);
+        when(session.getPrincipal()).thenReturn(new UsernamePasswordAuthenticationToken(paramedic, null, List.of()));
+        handler.afterConnectionEstablished(session);
+    }
+
+    private static BinaryMessage message(List<LocationFrame> frames) {
+        ByteBuffer buffer = ByteBuffer.allocate(frames.size() * LocationFrame.SIZE);
+        frames.forEach(frame -> frame.encodeTo(buffer));
+        return new BinaryMessage(buffer.flip());
+    }
+}
@@ -0,0 +1,72 @@
+package com.ifortex.internship.emergencyservice.unit.jfr;
+
+import com.ifortex.internship.emergencyservice.jfr.SnapshotWriteRecorder;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencySnapshot;
+import com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SnapshotWriteRecorderTest {
+
+    private static final String SNAPSHOT_WRITE = "com.ifortex.emergency.SnapshotWrite";
+
+    private final EmergencySnapshotRepository target = mock(EmergencySnapshotRepository.class);
+    private EmergencySnapshotRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        MongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        SnapshotWriteRecorder recorder = new SnapshotWriteRecorder(
+            new StaticListableBeanFactory(Map.of("mongoConverter", converter)).getBeanProvider(MongoConverter.class));
+        repository = (EmergencySnapshotRepository) recorder.postProcessAfterInitialization(target, "emergencySnapshotRepository");
+    }
+
+    @Test
+    void writes_targetedUpdateAndFailedSave_emitEvents(@TempDir Path dir) throws IOException {
+        EmergencySnapshot snapshot = new EmergencySnapshot().setId("failed").setLocations(new ArrayList<>());
+        when(target.close("closed", EmergencyStatus.CANCELLED, Instant.EPOCH)).thenReturn(true);
+        when(target.save(any(EmergencySnapshot.class))).thenThrow(new IllegalStateException("write failed"));
+
+        Path file = dir.resolve("snapshots.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SNAPSHOT_WRITE);
+            recording.start();
+            repository.findById("read");
+            assertTrue(repository.close("closed", EmergencyStatus.CANCELLED, Instant.EPOCH));
+            assertThrows(IllegalStateException.class, () -> repository.save(snapshot));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(SNAPSHOT_WRITE))
+            .toList();
+        assertEquals(List.of("close", "save"), events.stream().map(event -> event.getString("operation")).toList());
+        assertEquals(List.of("closed", "failed"), events.stream().map(event -> event.getString("emergencyId")).toList());
+        assertTrue(events.get(1).getLong("payloadBytes") > 0);
+    }
+}
@@ -4,6 +4,7 @@ import com.ifortex.internship.emergencyservice.dto.request.CreateEmergencyReques
 import com.ifortex.internship.emergencyservice.dto.request.UpdateEmergencySymptomsRequest;
 import com.ifortex.internship.emergencyservice.dto.response.ParamedicEmergencyViewDto;
 import com.ifortex.internship.emergencyservice.dto.response.SymptomDto;
+import com.ifortex.internship.emergencyservice.event.EmergencyClosedEvent;
 import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
 import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
 import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
@@ -23,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -39,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,10 +57,13 @@ class EmergencyServiceTest {
     @Mock private com.ifortex.internship.emergencyservice.repository.UserAllergyRepository userAllergyRepository;
     @Mock private com.ifortex.internship.emergencyservice.repository.UserDiseaseRepository userDiseaseRepository;
     @Mock private com.ifortex.internship.emergencyservice.service.ParamedicSearchService paramedicSearchService;
+    @Mock private com.ifortex.internship.emergencyservice.service.dispatch.BusyParamedicRegistry busyParamedicRegistry;
     @Mock private com.ifortex.internship.emergencyservice.util.EmergencyLocationMapper emergencyLocationMapper;
     @Mock private com.ifortex.internship.emergencyservice.util.EmergencySnapshotMapper emergencySnapshotMapper;
     @Mock private com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository emergencyLocationRepository;
     @Mock private com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepository emergencySnapshotRepository;
+    @Mock private org.springframework.context.ApplicationEventPublisher eventPublisher;
+    @Mock private Clock clock;
 
     @InjectMocks
     private EmergencyService emergencyService;
@@ -126,6 +132,50 @@ class EmergencyServiceTest {
         assertEquals("You already have an ongoing emergency.", ex.getMessage());
     }
 
+    @Test
+    void cancelCurrentEmergency_success() {
+        Instant now = Instant.parse("2025-03-01T10:15:00Z");
+        when(clock.instant()).thenReturn(now);
+        when(emergencyRepository.findByClientIdAndStatusForUpdate(clientId, EmergencyStatus.ONGOING)).thenReturn(Optional.of(emergency));
+        when(emergencySnapshotRepository.close(emergencyIdStr, EmergencyStatus.CANCELLED, now)).thenReturn(true);
+        emergencyService.cancelCurrentEmergency(client);
+        assertEquals(EmergencyStatus.CANCELLED, emergency.getStatus());
+        verify(emergencyRepository, times(1)).save(emergency);
+        verify(emergencySnapshotRepository, times(1)).close(emergencyIdStr, EmergencyStatus.CANCELLED, now);
+        verify(emergencySnapshotRepository, never()).save(any(EmergencySnapshot.class));
+        verify(paramedicSearchService, times(1)).cancelSearch(emergency.getId());
+        verify(eventPublisher, times(1)).publishEvent(new EmergencyClosedEvent(emergency.getId()));
+    }
+
+    @Test
+    void cancelCurrentEmergency_noSnapshot_shouldThrowException() {
+        Instant now = Instant.parse("2025-03-01T10:15:00Z");
+        when(clock.instant()).thenReturn(now);
+        when(emergencyRepository.findByClientIdAndStatusForUpdate(clientId, EmergencyStatus.ONGOING)).thenReturn(Optional.of(emergency));
+        when(emergencySnapshotRepository.close(emergencyIdStr, EmergencyStatus.CANCELLED, now)).thenReturn(false);
+        EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () -> emergencyService.cancelCurrentEmergency(client));
+        assertEquals("Emergency snapshot not found", ex.getMessage());
+    }
+
+    @Test
+    void cancelCurrentEmergency_paramedicAssigned_releasesParamedic() {
+        UUID paramedicId = UUID.randomUUID();
+        emergency.setParamedicId(paramedicId);
+        Instant now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        when(emergencyRepository.findByClientIdAndStatusForUpdate(clientId, EmergencyStatus.ONGOING)).thenReturn(Optional.of(emergency));
+        when(emergencySnapshotRepository.close(emergencyIdStr, EmergencyStatus.CANCELLED, now)).thenReturn(true);
+        emergencyService.cancelCurrentEmergency(client);
+        verify(busyParamedicRegistry, times(1)).release(paramedicId);
+    }
+
+    @Test
+    void cancelCurrentEmergency_noOngoingEmergency_shouldThrowException() {
+        when(emergencyRepository.findByClientIdAndStatusForUpdate(clientId, EmergencyStatus.ONGOING)).thenReturn(Optional.empty());
+        EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () -> emergencyService.cancelCurrentEmergency(client));
+        assertEquals("No ongoing emergency found", ex.getMessage());
+    }
+
     @Test
     void getSymptomsForCurrentEmergency_noSnapshot_shouldThrowException() {
         when(emergencySnapshotRepository.findByClientIdAndStatus(clientId, EmergencyStatus.ONGOING)).thenReturn(Optional.empty());
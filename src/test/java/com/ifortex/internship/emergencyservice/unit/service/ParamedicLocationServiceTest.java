@@ -0,0 +1,73 @@
+package com.ifortex.internship.emergencyservice.unit.service;
+
+import com.ifortex.internship.emergencyservice.dto.request.UpdateParamedicLocationRequest;
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.service.ParamedicLocationService;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicLocationBuffer;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParamedicLocationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock private ParamedicLocationBuffer paramedicLocationBuffer;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private ParamedicLocationService paramedicLocationService;
+
+    @BeforeEach
+    void setUp() {
+        paramedicLocationService = new ParamedicLocationService(
+            paramedicLocationBuffer, eventPublisher, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void updateLocation_buffersPositionAndPublishesChange() {
+        UUID paramedicId = UUID.randomUUID();
+        when(paramedicLocationBuffer.offer(any())).thenReturn(true);
+
+        paramedicLocationService.updateLocation(paramedicId,
+            new UpdateParamedicLocationRequest(new BigDecimal("53.900000"), new BigDecimal("27.559000")));
+
+        verify(paramedicLocationBuffer).offer(new ParamedicPosition(paramedicId, GeoPoint.of(53.9, 27.559), NOW));
+        verify(eventPublisher).publishEvent(new ParamedicLocationChangedEvent(paramedicId, 53.9, 27.559, NOW));
+    }
+
+    @Test
+    void reportLocation_deviceClockAhead_capsAtServerTime() {
+        UUID paramedicId = UUID.randomUUID();
+        when(paramedicLocationBuffer.offer(any())).thenReturn(true);
+
+        paramedicLocationService.reportLocation(paramedicId, GeoPoint.of(53.9, 27.559), NOW.plusSeconds(90));
+
+        verify(paramedicLocationBuffer).offer(new ParamedicPosition(paramedicId, GeoPoint.of(53.9, 27.559), NOW));
+    }
+
+    @Test
+    void reportLocation_olderThanBuffered_publishesNothing() {
+        when(paramedicLocationBuffer.offer(any())).thenReturn(false);
+
+        paramedicLocationService.reportLocation(UUID.randomUUID(), GeoPoint.of(53.9, 27.559), NOW.minusSeconds(10));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,439 @@
+package com.ifortex.internship.emergencyservice.unit.service;
+
+import com.ifortex.internship.emergencyservice.event.EmergencyClosedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
+import com.ifortex.internship.emergencyservice.model.emergency.EmergencyLocation;
+import com.ifortex.internship.emergencyservice.model.emergency.PendingSearchRecord;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencyAssignmentSnapshot;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencySnapshot;
+import com.ifortex.internship.emergencyservice.repository.EmergencyAssignmentRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepository;
+import com.ifortex.internship.emergencyservice.repository.ParamedicClaimRepository;
+import com.ifortex.internship.emergencyservice.repository.PendingSearchRepository;
+import com.ifortex.internship.emergencyservice.service.ParamedicLocationService;
+import com.ifortex.internship.emergencyservice.service.ParamedicSearchService;
+import com.ifortex.internship.emergencyservice.service.dispatch.BusyParamedicRegistry;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMetrics;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMode;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchProperties;
+import com.ifortex.internship.emergencyservice.service.dispatch.EtaEstimator;
+import com.ifortex.internship.emergencyservice.service.dispatch.FixedSearchRadiusPolicy;
+import com.ifortex.internship.emergencyservice.service.dispatch.LocalDispatchCoordinator;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicCandidateCache;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicCandidateFinder;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicLocationBuffer;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicLocator;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import com.ifortex.internship.emergencyservice.util.EmergencyAssignmentMapper;
+import com.ifortex.internship.emergencyservice.util.EmergencyLocationMapper;
+import com.ifortex.internship.emergencyservice.util.PendingSearchMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParamedicSearchServiceTest {
+
+    private static final BigDecimal LATITUDE = new BigDecimal("53.900000");
+    private static final BigDecimal LONGITUDE = new BigDecimal("27.559000");
+    private static final GeoPoint ORIGIN = GeoPoint.of(LATITUDE, LONGITUDE);
+
+    @Mock private EmergencyRepository emergencyRepository;
+    @Mock private EmergencyLocationMapper emergencyLocationMapper;
+    @Mock private EmergencyAssignmentMapper emergencyAssignmentMapper;
+    @Mock private EmergencySnapshotRepository emergencySnapshotRepository;
+    @Mock private ParamedicLocator paramedicLocator;
+    @Mock private EmergencyLocationRepository emergencyLocationRepository;
+    @Mock private EmergencyAssignmentRepository emergencyAssignmentRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private TaskScheduler taskScheduler;
+    @Mock private ParamedicClaimRepository paramedicClaimRepository;
+    @Mock private PendingSearchRepository pendingSearchRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ParamedicLocationBuffer paramedicLocationBuffer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DispatchMetrics dispatchMetrics = new DispatchMetrics(meterRegistry);
+    private BusyParamedicRegistry busyParamedicRegistry;
+    private ParamedicSearchService paramedicSearchService;
+    private final List<Runnable> scheduledTasks = new ArrayList<>();
+    private Emergency emergency;
+
+    @BeforeEach
+    void setUp() {
+        busyParamedicRegistry = new BusyParamedicRegistry(
+            emergencyRepository, eventPublisher, dispatchMetrics, taskScheduler, Duration.ofMinutes(5));
+        ParamedicCandidateCache paramedicCandidateCache = new ParamedicCandidateCache(dispatchMetrics);
+        DispatchProperties dispatchProperties = new DispatchProperties(
+            DispatchMode.GREEDY, 5, Duration.ofMinutes(15), new DispatchProperties.Batch(Duration.ofSeconds(2)));
+        EtaEstimator etaEstimator = new EtaEstimator(
+            emergencyLocationRepository, taskScheduler, Clock.systemUTC(), 1, 35, 1.3, Duration.ofDays(28), Duration.ofHours(6));
+        paramedicSearchService = new ParamedicSearchService(
+            emergencyRepository,
+            emergencyLocationMapper,
+            emergencyAssignmentMapper,
+            emergencySnapshotRepository,
+            emergencyLocationRepository,
+            emergencyAssignmentRepository,
+            transactionTemplate,
+            taskScheduler,
+            paramedicLocator,
+            pendingSearchRepository,
+            Mappers.getMapper(PendingSearchMapper.class),
+            dispatchMetrics,
+            paramedicCandidateCache,
+            new ParamedicCandidateFinder(paramedicLocator, paramedicCandidateCache, paramedicClaimRepository,
+                busyParamedicRegistry, etaEstimator, dispatchMetrics, Clock.systemUTC(), dispatchProperties),
+            new FixedSearchRadiusPolicy(10),
+            busyParamedicRegistry,
+            Clock.systemUTC(),
+            new LocalDispatchCoordinator(pendingSearchRepository),
+            eventPublisher,
+            dispatchProperties
+        );
+
+        emergency = new Emergency().setClientId(UUID.randomUUID()).setStatus(EmergencyStatus.ONGOING);
+        emergency.setId(UUID.randomUUID());
+        emergency.getLocations().add(new EmergencyLocation()
+            .setEmergency(emergency)
+            .setLocationType(EmergencyLocationType.INITIATOR)
+            .setLatitude(LATITUDE)
+            .setLongitude(LONGITUDE));
+
+        lenient().when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            scheduledTasks.add(invocation.getArgument(0));
+            return null;
+        });
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(emergencyRepository.findByIdForUpdate(emergency.getId())).thenReturn(Optional.of(emergency));
+        lenient().when(paramedicClaimRepository.claim(any(), eq(emergency.getId()))).thenReturn(1);
+    }
+
+    @Test
+    void findParamedicForEmergency_paramedicFound_assignsOnFirstAttempt() {
+        UUID paramedicId = UUID.randomUUID();
+        ParamedicPosition paramedicPosition = new ParamedicPosition(paramedicId, ORIGIN, Instant.now());
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5)).thenReturn(List.of(paramedicPosition));
+        EmergencySnapshot snapshot = new EmergencySnapshot().setId(emergency.getId().toString()).setLocations(new ArrayList<>());
+        when(emergencySnapshotRepository.findById(emergency.getId().toString())).thenReturn(Optional.of(snapshot));
+        when(emergencyAssignmentMapper.toSnapshot(any())).thenReturn(new EmergencyAssignmentSnapshot());
+        when(emergencyLocationMapper.toList(any())).thenReturn(List.of());
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(1);
+
+        assertEquals(paramedicId, emergency.getParamedicId());
+        assertEquals(paramedicId, snapshot.getParamedicId());
+        assertEquals(1, snapshot.getAssignments().size());
+        verify(emergencyAssignmentRepository).save(any());
+        verify(pendingSearchRepository).deleteById(emergency.getId());
+        assertTrue(scheduledTasks.isEmpty());
+        assertEquals(1, meterRegistry.timer("dispatch.assignment.time").count());
+        assertEquals(1, meterRegistry.summary("dispatch.assignment.attempts").totalAmount());
+        assertEquals(10, meterRegistry.summary("dispatch.assignment.radius").totalAmount());
+        assertEquals(1, meterRegistry.get("dispatch.locator.query").timer().count());
+    }
+
+    @Test
+    void findParamedicForEmergency_recording_emitsAttemptAndAssignmentEvents(@TempDir Path dir) throws IOException {
+        ParamedicPosition paramedicPosition = new ParamedicPosition(UUID.randomUUID(), ORIGIN, Instant.now());
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5)).thenReturn(List.of(paramedicPosition));
+        EmergencySnapshot snapshot = new EmergencySnapshot().setId(emergency.getId().toString()).setLocations(new ArrayList<>());
+        when(emergencySnapshotRepository.findById(emergency.getId().toString())).thenReturn(Optional.of(snapshot));
+        when(emergencyAssignmentMapper.toSnapshot(any())).thenReturn(new EmergencyAssignmentSnapshot());
+        when(emergencyLocationMapper.toList(any())).thenReturn(List.of());
+
+        Path file = dir.resolve("dispatch.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.ifortex.emergency.DispatchAttempt");
+            recording.enable("com.ifortex.emergency.ParamedicAssignment");
+            recording.start();
+            paramedicSearchService.findParamedicForEmergency(emergency);
+            runScheduledTasks(1);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent attemptEvent = events.stream()
+            .filter(event -> event.getEventType().getName().equals("com.ifortex.emergency.DispatchAttempt"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(emergency.getId().toString(), attemptEvent.getString("emergencyId"));
+        assertEquals("scheduled", attemptEvent.getString("trigger"));
+        assertEquals("completed", attemptEvent.getString("outcome"));
+        assertEquals(1, attemptEvent.getInt("attempt"));
+        assertTrue(events.stream().anyMatch(event ->
+            event.getEventType().getName().equals("com.ifortex.emergency.ParamedicAssignment")
+                && paramedicPosition.paramedicId().toString().equals(event.getString("paramedicId"))));
+    }
+
+    @Test
+    void findParamedicForEmergency_noParamedic_doublesRadiusAfterMaxAttempts() {
+        when(paramedicLocator.findNearestAvailable(eq(ORIGIN), anyDouble(), anyInt())).thenReturn(List.of());
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(4);
+
+        verify(paramedicLocator, times(3)).findNearestAvailable(ORIGIN, 10, 5);
+        verify(paramedicLocator, times(1)).findNearestAvailable(ORIGIN, 20, 5);
+        assertEquals(1, scheduledTasks.size());
+        assertEquals(EmergencyStatus.ONGOING, emergency.getStatus());
+        assertEquals(1, meterRegistry.counter("dispatch.searches.extended").count());
+        assertEquals(0, meterRegistry.timer("dispatch.assignment.time").count());
+    }
+
+    @Test
+    void findParamedicForEmergency_emergencyClosed_stopsSearch() {
+        emergency.setStatus(EmergencyStatus.CANCELLED);
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(1);
+
+        verify(paramedicLocator, never()).findNearestAvailable(any(), anyDouble(), anyInt());
+        assertTrue(scheduledTasks.isEmpty());
+    }
+
+    @Test
+    void findParamedicForEmergency_nearestAlreadyClaimed_assignsNextCandidate() {
+        ParamedicPosition claimed = new ParamedicPosition(UUID.randomUUID(), ORIGIN, Instant.now());
+        ParamedicPosition next = new ParamedicPosition(UUID.randomUUID(), ORIGIN, Instant.now());
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5)).thenReturn(List.of(claimed, next));
+        when(paramedicClaimRepository.claim(claimed.paramedicId(), emergency.getId())).thenReturn(0);
+        EmergencySnapshot snapshot = new EmergencySnapshot().setId(emergency.getId().toString()).setLocations(new ArrayList<>());
+        when(emergencySnapshotRepository.findById(emergency.getId().toString())).thenReturn(Optional.of(snapshot));
+        when(emergencyAssignmentMapper.toSnapshot(any())).thenReturn(new EmergencyAssignmentSnapshot());
+        when(emergencyLocationMapper.toList(any())).thenReturn(List.of());
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(1);
+
+        assertEquals(next.paramedicId(), emergency.getParamedicId());
+        assertTrue(scheduledTasks.isEmpty());
+    }
+
+    @Test
+    void findParamedicForEmergency_nearestKnownBusy_skipsClaimAndAssignsNext() {
+        ParamedicPosition busy = new ParamedicPosition(UUID.randomUUID(), ORIGIN, Instant.now());
+        ParamedicPosition free = new ParamedicPosition(UUID.randomUUID(), ORIGIN, Instant.now());
+        busyParamedicRegistry.markBusy(busy.paramedicId());
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5)).thenReturn(List.of(busy, free));
+        EmergencySnapshot snapshot = new EmergencySnapshot().setId(emergency.getId().toString()).setLocations(new ArrayList<>());
+        when(emergencySnapshotRepository.findById(emergency.getId().toString())).thenReturn(Optional.of(snapshot));
+        when(emergencyAssignmentMapper.toSnapshot(any())).thenReturn(new EmergencyAssignmentSnapshot());
+        when(emergencyLocationMapper.toList(any())).thenReturn(List.of());
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(1);
+
+        assertEquals(free.paramedicId(), emergency.getParamedicId());
+        verify(paramedicClaimRepository, never()).claim(busy.paramedicId(), emergency.getId());
+        assertTrue(busyParamedicRegistry.isBusy(free.paramedicId()));
+    }
+
+    @Test
+    void findParamedicForEmergency_nearestLocationStale_assignsFreshCandidate() {
+        ParamedicPosition offline = new ParamedicPosition(UUID.randomUUID(), ORIGIN, Instant.now().minus(Duration.ofHours(2)));
+        ParamedicPosition online = new ParamedicPosition(UUID.randomUUID(), ORIGIN, Instant.now());
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5)).thenReturn(List.of(offline, online));
+        EmergencySnapshot snapshot = new EmergencySnapshot().setId(emergency.getId().toString()).setLocations(new ArrayList<>());
+        when(emergencySnapshotRepository.findById(emergency.getId().toString())).thenReturn(Optional.of(snapshot));
+        when(emergencyAssignmentMapper.toSnapshot(any())).thenReturn(new EmergencyAssignmentSnapshot());
+        when(emergencyLocationMapper.toList(any())).thenReturn(List.of());
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(1);
+
+        assertEquals(online.paramedicId(), emergency.getParamedicId());
+        verify(paramedicClaimRepository, never()).claim(offline.paramedicId(), emergency.getId());
+    }
+
+    @Test
+    void cancelSearch_pendingRetry_stopsSearch() {
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5)).thenReturn(List.of());
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(1);
+        paramedicSearchService.cancelSearch(emergency.getId());
+        runScheduledTasks(1);
+
+        verify(paramedicLocator, times(1)).findNearestAvailable(ORIGIN, 10, 5);
+        verify(pendingSearchRepository).deleteById(emergency.getId());
+        assertEquals(1, meterRegistry.counter("dispatch.searches.cancelled").count());
+        assertTrue(scheduledTasks.isEmpty());
+    }
+
+    @Test
+    void resumePendingSearches_storedSearch_continuesFromSavedProgress() {
+        PendingSearchRecord record = new PendingSearchRecord()
+            .setEmergencyId(emergency.getId())
+            .setLatitude(LATITUDE)
+            .setLongitude(LONGITUDE)
+            .setRadiusKm(10)
+            .setAttempt(2)
+            .setNextAttemptAt(Instant.now().minusSeconds(30))
+            .setStartedAt(Instant.now().minusSeconds(150));
+        when(pendingSearchRepository.findAllByOrderByNextAttemptAtAsc()).thenReturn(List.of(record));
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5)).thenReturn(List.of());
+
+        paramedicSearchService.resumePendingSearches();
+        runScheduledTasks(1);
+
+        ArgumentCaptor<PendingSearchRecord> saved = ArgumentCaptor.forClass(PendingSearchRecord.class);
+        verify(pendingSearchRepository).save(saved.capture());
+        assertEquals(3, saved.getValue().getAttempt());
+        assertEquals(20, saved.getValue().getRadiusKm());
+        assertEquals(1, scheduledTasks.size());
+    }
+
+    @Test
+    void resumePendingSearches_extendedDeadlinePassed_handsOverToReserveTeam() {
+        PendingSearchRecord record = new PendingSearchRecord()
+            .setEmergencyId(emergency.getId())
+            .setLatitude(LATITUDE)
+            .setLongitude(LONGITUDE)
+            .setRadiusKm(20)
+            .setAttempt(23)
+            .setNextAttemptAt(Instant.now().minusSeconds(30))
+            .setStartedAt(Instant.now().minus(Duration.ofMinutes(25)))
+            .setExtendedDeadline(Instant.now().minusSeconds(30));
+        when(pendingSearchRepository.findAllByOrderByNextAttemptAtAsc()).thenReturn(List.of(record));
+        when(emergencySnapshotRepository.close(eq(emergency.getId().toString()), eq(EmergencyStatus.RESERVE_HANDLED), any()))
+            .thenReturn(true);
+
+        paramedicSearchService.resumePendingSearches();
+        runScheduledTasks(1);
+
+        assertEquals(EmergencyStatus.RESERVE_HANDLED, emergency.getStatus());
+        assertEquals(1, meterRegistry.counter("dispatch.searches.reserve_handled").count());
+        verify(eventPublisher).publishEvent(new EmergencyClosedEvent(emergency.getId()));
+        verify(paramedicLocator, never()).findNearestAvailable(any(), anyDouble(), anyInt());
+        assertTrue(scheduledTasks.isEmpty());
+    }
+
+    @Test
+    void onParamedicLocationChanged_withinPendingRadius_triggersImmediateAttempt() {
+        UUID paramedicId = UUID.randomUUID();
+        ParamedicPosition paramedicPosition = new ParamedicPosition(paramedicId, ORIGIN, Instant.now());
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5))
+            .thenReturn(List.of(), List.of(paramedicPosition));
+        EmergencySnapshot snapshot = new EmergencySnapshot().setId(emergency.getId().toString()).setLocations(new ArrayList<>());
+        when(emergencySnapshotRepository.findById(emergency.getId().toString())).thenReturn(Optional.of(snapshot));
+        when(emergencyAssignmentMapper.toSnapshot(any())).thenReturn(new EmergencyAssignmentSnapshot());
+        when(emergencyLocationMapper.toList(any())).thenReturn(List.of());
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(1);
+        assertEquals(1, scheduledTasks.size());
+
+        paramedicSearchService.onParamedicLocationChanged(
+            new ParamedicLocationChangedEvent(paramedicId, 53.9005, 27.5595, Instant.now()));
+        assertEquals(2, scheduledTasks.size());
+        scheduledTasks.remove(1).run();
+
+        assertEquals(paramedicId, emergency.getParamedicId());
+    }
+
+    @Test
+    void reportedLocation_withinPendingRadius_triggersImmediateAttempt() {
+        UUID paramedicId = UUID.randomUUID();
+        ParamedicPosition paramedicPosition = new ParamedicPosition(paramedicId, ORIGIN, Instant.now());
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5))
+            .thenReturn(List.of(), List.of(paramedicPosition));
+        EmergencySnapshot snapshot = new EmergencySnapshot().setId(emergency.getId().toString()).setLocations(new ArrayList<>());
+        when(emergencySnapshotRepository.findById(emergency.getId().toString())).thenReturn(Optional.of(snapshot));
+        when(emergencyAssignmentMapper.toSnapshot(any())).thenReturn(new EmergencyAssignmentSnapshot());
+        when(emergencyLocationMapper.toList(any())).thenReturn(List.of());
+        when(paramedicLocationBuffer.offer(any())).thenReturn(true);
+        ParamedicLocationService paramedicLocationService = new ParamedicLocationService(paramedicLocationBuffer, event -> {
+            if (event instanceof ParamedicLocationChangedEvent changed) {
+                paramedicSearchService.onParamedicLocationChanged(changed);
+            }
+        }, Clock.systemUTC());
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(1);
+        paramedicLocationService.reportLocation(paramedicId, GeoPoint.of(53.9005, 27.5595), Instant.now());
+        assertEquals(2, scheduledTasks.size());
+        scheduledTasks.remove(1).run();
+
+        assertEquals(paramedicId, emergency.getParamedicId());
+    }
+
+    @Test
+    void onParamedicLocationChanged_busyParamedicWithinPendingRadius_doesNothing() {
+        UUID paramedicId = UUID.randomUUID();
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5)).thenReturn(List.of());
+        busyParamedicRegistry.markBusy(paramedicId);
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(1);
+
+        paramedicSearchService.onParamedicLocationChanged(
+            new ParamedicLocationChangedEvent(paramedicId, 53.9005, 27.5595, Instant.now()));
+
+        assertEquals(1, scheduledTasks.size());
+    }
+
+    @Test
+    void onParamedicLocationChanged_outsidePendingRadius_doesNothing() {
+        when(paramedicLocator.findNearestAvailable(ORIGIN, 10, 5)).thenReturn(List.of());
+
+        paramedicSearchService.findParamedicForEmergency(emergency);
+        runScheduledTasks(1);
+
+        paramedicSearchService.onParamedicLocationChanged(
+            new ParamedicLocationChangedEvent(UUID.randomUUID(), 55.7500, 37.6200, Instant.now()));
+
+        assertEquals(1, scheduledTasks.size());
+    }
+
+    private void runScheduledTasks(int count) {
+        for (int i = 0; i < count; i++) {
+            scheduledTasks.remove(0).run();
+        }
+    }
+}
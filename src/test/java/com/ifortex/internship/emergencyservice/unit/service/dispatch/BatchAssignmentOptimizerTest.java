@@ -0,0 +1,62 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.service.dispatch.BatchAssignmentOptimizer;
+import com.ifortex.internship.emergencyservice.service.dispatch.BatchAssignmentOptimizer.Demand;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchAssignmentOptimizerTest {
+
+    @Test
+    void assign_prefersGlobalOptimumOverGreedyChoice() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        ParamedicPosition between = paramedic(53.90, 27.51);
+        ParamedicPosition behind = paramedic(53.90, 27.47);
+
+        Map<UUID, ParamedicPosition> result = BatchAssignmentOptimizer.assign(List.of(
+            new Demand(first, GeoPoint.of(53.90, 27.50), List.of(between, behind)),
+            new Demand(second, GeoPoint.of(53.90, 27.52), List.of(between))
+        ));
+
+        assertEquals(behind, result.get(first));
+        assertEquals(between, result.get(second));
+    }
+
+    @Test
+    void assign_neverUsesParamedicOutsideCandidateList() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        ParamedicPosition shared = paramedic(53.90, 27.51);
+
+        Map<UUID, ParamedicPosition> result = BatchAssignmentOptimizer.assign(List.of(
+            new Demand(first, GeoPoint.of(53.90, 27.50), List.of(shared)),
+            new Demand(second, GeoPoint.of(53.90, 27.52), List.of(shared))
+        ));
+
+        assertEquals(1, result.size());
+        assertTrue(result.containsValue(shared));
+    }
+
+    @Test
+    void assign_noCandidates_returnsEmpty() {
+        Map<UUID, ParamedicPosition> result = BatchAssignmentOptimizer.assign(List.of(
+            new Demand(UUID.randomUUID(), GeoPoint.of(53.90, 27.50), List.of())
+        ));
+
+        assertTrue(result.isEmpty());
+    }
+
+    private ParamedicPosition paramedic(double latitude, double longitude) {
+        return new ParamedicPosition(UUID.randomUUID(), GeoPoint.of(latitude, longitude), Instant.now());
+    }
+}
@@ -0,0 +1,95 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.event.ParamedicReleasedEvent;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.BusyParamedicRegistry;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BusyParamedicRegistryTest {
+
+    @Mock private EmergencyRepository emergencyRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TaskScheduler taskScheduler;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BusyParamedicRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new BusyParamedicRegistry(
+            emergencyRepository, eventPublisher, new DispatchMetrics(meterRegistry), taskScheduler, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void release_busyParamedic_publishesReleasedEvent() {
+        UUID paramedicId = UUID.randomUUID();
+        registry.markBusy(paramedicId);
+        assertTrue(registry.isBusy(paramedicId));
+
+        registry.release(paramedicId);
+
+        assertTrue(registry.isAvailable(paramedicId));
+        verify(eventPublisher).publishEvent(new ParamedicReleasedEvent(paramedicId));
+    }
+
+    @Test
+    void release_unknownParamedic_publishesNothing() {
+        registry.release(UUID.randomUUID());
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void checkDrift_repairsMissingAndStaleEntries() {
+        UUID missing = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        UUID consistent = UUID.randomUUID();
+        registry.markBusy(stale);
+        registry.markBusy(consistent);
+        when(emergencyRepository.findParamedicIdsByStatus(EmergencyStatus.ONGOING)).thenReturn(Set.of(missing, consistent));
+
+        registry.checkDrift();
+
+        assertTrue(registry.isBusy(missing));
+        assertTrue(registry.isBusy(consistent));
+        assertFalse(registry.isBusy(stale));
+        assertEquals(2, meterRegistry.counter("dispatch.busy.drift").count());
+        verify(eventPublisher).publishEvent(new ParamedicReleasedEvent(stale));
+    }
+
+    @Test
+    void checkDrift_changedDuringCheck_leavesRegistryAlone() {
+        UUID assigned = UUID.randomUUID();
+        when(emergencyRepository.findParamedicIdsByStatus(EmergencyStatus.ONGOING)).thenAnswer(invocation -> {
+            registry.markBusy(assigned);
+            return Set.of();
+        });
+
+        registry.checkDrift();
+
+        assertTrue(registry.isBusy(assigned));
+        assertEquals(0, meterRegistry.counter("dispatch.busy.drift").count());
+    }
+}
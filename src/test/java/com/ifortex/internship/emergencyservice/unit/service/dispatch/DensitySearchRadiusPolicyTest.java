@@ -0,0 +1,111 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.BusyParamedicRegistry;
+import com.ifortex.internship.emergencyservice.service.dispatch.DensitySearchRadiusPolicy;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMetrics;
+import com.ifortex.internship.emergencyservice.service.dispatch.GridParamedicLocator;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicGridIndex;
+import com.ifortex.internship.emergencyservice.service.dispatch.PendingSearch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class DensitySearchRadiusPolicyTest {
+
+    private static final GeoPoint ORIGIN = GeoPoint.of(53.9000, 27.5590);
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private ParamedicGridIndex index;
+    private BusyParamedicRegistry busyParamedicRegistry;
+    private DensitySearchRadiusPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        index = new ParamedicGridIndex(2);
+        busyParamedicRegistry = new BusyParamedicRegistry(mock(EmergencyRepository.class), event -> { },
+            new DispatchMetrics(new SimpleMeterRegistry()), mock(TaskScheduler.class), Duration.ofMinutes(5));
+        GridParamedicLocator locator = new GridParamedicLocator(index, busyParamedicRegistry,
+            Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofMinutes(15));
+        policy = new DensitySearchRadiusPolicy(locator, 2, 40, 5);
+    }
+
+    @Test
+    void initialRadiusKm_denseArea_staysAtMinimum() {
+        addParamedics(10, 53.9010, 27.5600, NOW);
+
+        assertEquals(2, policy.initialRadiusKm(ORIGIN));
+    }
+
+    @Test
+    void initialRadiusKm_sparseArea_startsWhereParamedicsAre() {
+        addParamedics(5, 54.1700, 27.5590, NOW);
+
+        assertEquals(32, policy.initialRadiusKm(ORIGIN));
+    }
+
+    @Test
+    void initialRadiusKm_noParamedics_cappedAtMaximum() {
+        assertEquals(40, policy.initialRadiusKm(ORIGIN));
+    }
+
+    @Test
+    void initialRadiusKm_busyAndStaleParamedics_areNotCounted() {
+        addParamedics(5, 54.1700, 27.5590, NOW);
+        addParamedics(5, 53.9010, 27.5600, NOW.minus(Duration.ofMinutes(30)));
+        addParamedics(5, 53.9010, 27.5600, NOW).forEach(busyParamedicRegistry::markBusy);
+
+        assertEquals(32, policy.initialRadiusKm(ORIGIN));
+    }
+
+    @Test
+    void nextRadiusKm_skipsRingsWithoutNewParamedics() {
+        addParamedics(1, 53.9010, 27.5600, NOW);
+        addParamedics(3, 54.1700, 27.5590, NOW);
+
+        assertEquals(32, policy.nextRadiusKm(search(2), false));
+    }
+
+    @Test
+    void nextRadiusKm_nobodyFurtherAway_keepsRadiusUntilExtended() {
+        addParamedics(3, 53.9010, 27.5600, NOW);
+
+        assertEquals(2, policy.nextRadiusKm(search(2), false));
+        assertEquals(40, policy.nextRadiusKm(search(2), true));
+    }
+
+    @Test
+    void nextRadiusKm_onlyBusyParamedicsFurtherAway_keepsRadius() {
+        addParamedics(1, 53.9010, 27.5600, NOW);
+        addParamedics(3, 54.1700, 27.5590, NOW).forEach(busyParamedicRegistry::markBusy);
+
+        assertEquals(2, policy.nextRadiusKm(search(2), false));
+    }
+
+    private PendingSearch search(double radiusKm) {
+        return new PendingSearch().setEmergencyId(UUID.randomUUID()).setLocation(ORIGIN).setRadiusKm(radiusKm);
+    }
+
+    private List<UUID> addParamedics(int count, double latitude, double longitude, Instant updatedAt) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID id = UUID.randomUUID();
+            index.upsert(id, latitude, longitude, updatedAt);
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,154 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.EtaEstimator;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import com.ifortex.internship.emergencyservice.service.dispatch.SpeedProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+@ExtendWith(MockitoExtension.class)
+class EtaEstimatorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T08:30:00Z");
+    private static final GeoPoint TARGET = GeoPoint.of(53.9, 27.56);
+
+    @Mock private EmergencyLocationRepository emergencyLocationRepository;
+    @Mock private TaskScheduler taskScheduler;
+
+    private EtaEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        estimator = new EtaEstimator(emergencyLocationRepository, taskScheduler, Clock.fixed(NOW, ZoneOffset.UTC),
+            1, 36, 1.0, Duration.ofDays(28), Duration.ofHours(6));
+    }
+
+    @Test
+    void estimateSeconds_noProfile_usesDefaultSpeed() {
+        GeoPoint from = GeoPoint.of(53.9, 27.62);
+
+        assertEquals(TARGET.distanceKm(from) * 100, estimator.estimateSeconds(from, TARGET, 8), 0.001);
+    }
+
+    @Test
+    void rank_noProfile_ordersByDistanceAndKeepsTies() {
+        ParamedicPosition far = position(GeoPoint.of(53.95, 27.56));
+        ParamedicPosition near = position(GeoPoint.of(53.91, 27.56));
+        ParamedicPosition nearToo = position(GeoPoint.of(53.91, 27.56));
+
+        assertEquals(List.of(near, nearToo, far), estimator.rank(List.of(far, near, nearToo), TARGET));
+    }
+
+    @Test
+    void rank_learnedCongestion_prefersFasterRouteOverShorterOne() {
+        UUID slowTrack = UUID.randomUUID();
+        UUID fastTrack = UUID.randomUUID();
+        List<TrackPoint> points = new ArrayList<>();
+        // North of the target the traffic crawls at 12 km/h, to the east it moves at 60 km/h.
+        for (int i = 0; i <= 10; i++) {
+            points.add(new TrackPoint(slowTrack, GeoPoint.of(53.9 + i * 0.0018, 27.56), NOW.minusSeconds(600 - i * 60L)));
+        }
+        for (int i = 0; i <= 10; i++) {
+            points.add(new TrackPoint(fastTrack, GeoPoint.of(53.9, 27.56 + i * 0.0152), NOW.minusSeconds(600 - i * 60L)));
+        }
+        givenTrack(points);
+        estimator.refresh();
+
+        ParamedicPosition north = position(GeoPoint.of(53.912, 27.56));
+        ParamedicPosition east = position(GeoPoint.of(53.9, 27.58));
+
+        assertEquals(List.of(east, north), estimator.rank(List.of(north, east), TARGET));
+    }
+
+    @Test
+    void refresh_failedLoad_keepsPreviousProfile() {
+        doThrow(new IllegalStateException("db down")).when(emergencyLocationRepository).forEachTrackPointSince(any(), any());
+
+        estimator.refresh();
+
+        GeoPoint from = GeoPoint.of(53.9, 27.62);
+        assertEquals(TARGET.distanceKm(from) * 100, estimator.estimateSeconds(from, TARGET, 8), 0.001);
+    }
+
+    @Test
+    void speedProfile_slotWithoutSamples_fallsBackToCellThenDefault() {
+        UUID track = UUID.randomUUID();
+        SpeedProfile profile = SpeedProfile.builder(1, 36, ZoneOffset.UTC)
+            .addSegment(new TrackPoint(track, GeoPoint.of(53.9, 27.56), NOW),
+                new TrackPoint(track, GeoPoint.of(53.9036, 27.56), NOW.plusSeconds(60)))
+            .addSegment(new TrackPoint(track, GeoPoint.of(53.9036, 27.56), NOW.plusSeconds(60)),
+                new TrackPoint(track, GeoPoint.of(53.9036, 27.56), NOW.plusSeconds(600)))
+            .build();
+
+        assertEquals(24, profile.speedKmh(53.9018, 27.56, 8), 0.5);
+        assertEquals(24, profile.speedKmh(53.9018, 27.56, 20), 0.5);
+        assertEquals(36, profile.speedKmh(54.5, 27.56, 8));
+    }
+
+    @Test
+    void speedProfile_hoursOfZone_bucketsByLocalHour() {
+        UUID track = UUID.randomUUID();
+        Instant afternoon = NOW.plus(Duration.ofHours(4));
+        SpeedProfile profile = SpeedProfile.builder(1, 36, ZoneId.of("Europe/Minsk"))
+            .addSegment(new TrackPoint(track, GeoPoint.of(53.9, 27.56), NOW),
+                new TrackPoint(track, GeoPoint.of(53.9036, 27.56), NOW.plusSeconds(60)))
+            .addSegment(new TrackPoint(track, GeoPoint.of(53.9, 27.56), afternoon),
+                new TrackPoint(track, GeoPoint.of(53.9018, 27.56), afternoon.plusSeconds(60)))
+            .build();
+
+        assertEquals(24, profile.speedKmh(53.9018, 27.56, 11), 0.5);
+        assertEquals(12, profile.speedKmh(53.9018, 27.56, 15), 0.5);
+    }
+
+    @Test
+    void speedProfile_scatteredPoints_coarsensCellsToFit() {
+        UUID track = UUID.randomUUID();
+        SpeedProfile profile = SpeedProfile.builder(0.01, 36, ZoneOffset.UTC)
+            .addSegment(new TrackPoint(track, GeoPoint.of(53.9, 27.56), NOW),
+                new TrackPoint(track, GeoPoint.of(53.9001, 27.56), NOW.plusSeconds(5)))
+            .addSegment(new TrackPoint(track, GeoPoint.of(55.9, 30.56), NOW),
+                new TrackPoint(track, GeoPoint.of(55.9001, 30.56), NOW.plusSeconds(5)))
+            .build();
+
+        assertTrue(profile.cells() <= 1 << 16);
+        assertTrue(profile.cellSizeKm() > 0.01);
+        assertEquals(8, profile.speedKmh(53.90005, 27.56, 8), 0.5);
+        assertEquals(8, profile.speedKmh(55.90005, 30.56, 8), 0.5);
+        assertEquals(36, profile.speedKmh(54.9, 29.0, 8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTrack(List<TrackPoint> points) {
+        doAnswer(invocation -> {
+            points.forEach(invocation.<Consumer<TrackPoint>>getArgument(1));
+            return null;
+        }).when(emergencyLocationRepository).forEachTrackPointSince(any(), any());
+    }
+
+    private static ParamedicPosition position(GeoPoint point) {
+        return new ParamedicPosition(UUID.randomUUID(), point, NOW);
+    }
+}
@@ -0,0 +1,140 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.event.PendingSearchesClaimedEvent;
+import com.ifortex.internship.emergencyservice.model.emergency.PendingSearchRecord;
+import com.ifortex.internship.emergencyservice.repository.DispatchLeaseRepository;
+import com.ifortex.internship.emergencyservice.repository.PendingSearchRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.LeaseDispatchCoordinator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LeaseDispatchCoordinatorTest {
+
+    @Mock private DispatchLeaseRepository dispatchLeaseRepository;
+    @Mock private PendingSearchRepository pendingSearchRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TaskScheduler taskScheduler;
+
+    private LeaseDispatchCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        coordinator = new LeaseDispatchCoordinator(
+            dispatchLeaseRepository, pendingSearchRepository, eventPublisher, taskScheduler,
+            Duration.ofSeconds(30), Duration.ofSeconds(10), 100);
+    }
+
+    @Test
+    void acquire_leaseTaken_ownsSearchUntilReleased() {
+        UUID emergencyId = UUID.randomUUID();
+        when(dispatchLeaseRepository.acquire(eq(emergencyId), anyString(), eq(30L))).thenReturn(1);
+
+        coordinator.acquire(emergencyId);
+        assertTrue(coordinator.owns(emergencyId));
+
+        coordinator.release(emergencyId);
+        assertFalse(coordinator.owns(emergencyId));
+        verify(dispatchLeaseRepository).release(eq(emergencyId), anyString());
+    }
+
+    @Test
+    void acquire_leaseHeldElsewhere_doesNotOwnSearch() {
+        UUID emergencyId = UUID.randomUUID();
+        when(dispatchLeaseRepository.acquire(eq(emergencyId), anyString(), anyLong())).thenReturn(0);
+
+        coordinator.acquire(emergencyId);
+
+        assertFalse(coordinator.owns(emergencyId));
+    }
+
+    @Test
+    void renewAndTakeOver_leaseTakenOverByPeer_dropsOwnership() {
+        UUID kept = UUID.randomUUID();
+        UUID lost = UUID.randomUUID();
+        when(dispatchLeaseRepository.acquire(any(), anyString(), anyLong())).thenReturn(1);
+        coordinator.acquire(kept);
+        coordinator.acquire(lost);
+        when(dispatchLeaseRepository.findEmergencyIdsByOwnerId(anyString())).thenReturn(List.of(kept));
+        when(dispatchLeaseRepository.findUnleasedSearchIds(100)).thenReturn(List.of());
+
+        coordinator.renewAndTakeOver();
+
+        verify(dispatchLeaseRepository).renew(anyString(), eq(30L));
+        assertTrue(coordinator.owns(kept));
+        assertFalse(coordinator.owns(lost));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void cancel_onAnotherNode_ownerDropsSearchOnRenewal() {
+        UUID emergencyId = UUID.randomUUID();
+        LeaseDispatchCoordinator peer = new LeaseDispatchCoordinator(
+            dispatchLeaseRepository, pendingSearchRepository, eventPublisher, taskScheduler,
+            Duration.ofSeconds(30), Duration.ofSeconds(10), 100);
+        when(dispatchLeaseRepository.acquire(eq(emergencyId), anyString(), anyLong())).thenReturn(1);
+        coordinator.acquire(emergencyId);
+
+        peer.cancel(emergencyId);
+        verify(dispatchLeaseRepository).deleteByEmergencyId(emergencyId);
+        when(dispatchLeaseRepository.findEmergencyIdsByOwnerId(anyString())).thenReturn(List.of());
+        when(dispatchLeaseRepository.findUnleasedSearchIds(100)).thenReturn(List.of());
+        coordinator.renewAndTakeOver();
+
+        assertFalse(coordinator.owns(emergencyId));
+    }
+
+    @Test
+    void renewAndTakeOver_unleasedSearches_claimsThoseItWins() {
+        UUID won = UUID.randomUUID();
+        UUID raced = UUID.randomUUID();
+        when(dispatchLeaseRepository.findEmergencyIdsByOwnerId(anyString())).thenReturn(List.of());
+        when(dispatchLeaseRepository.findUnleasedSearchIds(100)).thenReturn(List.of(won, raced));
+        when(dispatchLeaseRepository.acquire(eq(won), anyString(), anyLong())).thenReturn(1);
+        when(dispatchLeaseRepository.acquire(eq(raced), anyString(), anyLong())).thenReturn(0);
+
+        coordinator.renewAndTakeOver();
+
+        assertTrue(coordinator.owns(won));
+        assertFalse(coordinator.owns(raced));
+        verify(eventPublisher).publishEvent(new PendingSearchesClaimedEvent(List.of(won)));
+    }
+
+    @Test
+    void claimPendingSearches_returnsClaimedRecordsOldestDueFirst() {
+        UUID later = UUID.randomUUID();
+        UUID sooner = UUID.randomUUID();
+        PendingSearchRecord laterRecord = new PendingSearchRecord().setEmergencyId(later).setNextAttemptAt(Instant.now().plusSeconds(60));
+        PendingSearchRecord soonerRecord = new PendingSearchRecord().setEmergencyId(sooner).setNextAttemptAt(Instant.now());
+        when(dispatchLeaseRepository.findUnleasedSearchIds(100)).thenReturn(List.of(later, sooner));
+        when(dispatchLeaseRepository.acquire(any(), anyString(), anyLong())).thenReturn(1);
+        when(pendingSearchRepository.findAllById(List.of(later, sooner))).thenReturn(List.of(laterRecord, soonerRecord));
+
+        List<PendingSearchRecord> records = coordinator.claimPendingSearches();
+
+        assertEquals(List.of(soonerRecord, laterRecord), records);
+        assertTrue(coordinator.owns(later));
+        assertTrue(coordinator.owns(sooner));
+    }
+}
@@ -0,0 +1,112 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMetrics;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicCandidateCache;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import com.ifortex.internship.emergencyservice.service.dispatch.PendingSearch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParamedicCandidateCacheTest {
+
+    private static final GeoPoint ORIGIN = GeoPoint.of(53.9000, 27.5590);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private ParamedicCandidateCache cache;
+    private PendingSearch search;
+    private ParamedicPosition nearest;
+    private ParamedicPosition next;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ParamedicCandidateCache(new DispatchMetrics(meterRegistry));
+        search = new PendingSearch().setEmergencyId(UUID.randomUUID()).setLocation(ORIGIN).setRadiusKm(10);
+        nearest = new ParamedicPosition(UUID.randomUUID(), GeoPoint.of(53.9010, 27.5600), Instant.now());
+        next = new ParamedicPosition(UUID.randomUUID(), GeoPoint.of(53.9100, 27.5700), Instant.now());
+    }
+
+    @Test
+    void candidates_secondLookup_servedFromCache() {
+        load();
+        List<ParamedicPosition> candidates = load();
+
+        assertEquals(List.of(nearest, next), candidates);
+        assertEquals(1, loads.get());
+        assertEquals(1, meterRegistry.counter("dispatch.candidates.cache", "result", "hit").count());
+        assertEquals(1, meterRegistry.counter("dispatch.candidates.cache", "result", "miss").count());
+    }
+
+    @Test
+    void discard_claimedParamedic_fallsBackToNextCandidate() {
+        load();
+        cache.discard(nearest.paramedicId());
+
+        assertEquals(List.of(next), load());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void candidates_radiusWidened_reloads() {
+        load();
+        search.setRadiusKm(20);
+        load();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateAround_paramedicMovedIntoRadius_reloads() {
+        load();
+        cache.invalidateAround(UUID.randomUUID(), 53.9001, 27.5591);
+        load();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateAround_unrelatedParamedicFarAway_keepsCandidates() {
+        load();
+        cache.invalidateAround(UUID.randomUUID(), 55.7500, 37.6200);
+        load();
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidateAround_listedParamedicMovedAway_reloads() {
+        load();
+        cache.invalidateAround(nearest.paramedicId(), 55.7500, 37.6200);
+        load();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void candidates_invalidatedWhileLoading_notCached() {
+        cache.candidates(search, () -> {
+            loads.incrementAndGet();
+            cache.invalidateAll();
+            return List.of(nearest, next);
+        });
+        load();
+
+        assertEquals(2, loads.get());
+    }
+
+    private List<ParamedicPosition> load() {
+        return cache.candidates(search, () -> {
+            loads.incrementAndGet();
+            return List.of(nearest, next);
+        });
+    }
+}
@@ -0,0 +1,165 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicGridIndex;
+import com.ifortex.internship.emergencyservice.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParamedicGridIndexTest {
+
+    private ParamedicGridIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ParamedicGridIndex(2);
+    }
+
+    @Test
+    void findNearest_returnsClosestWithinRadius() {
+        UUID near = UUID.randomUUID();
+        UUID far = UUID.randomUUID();
+        index.upsert(near, 53.9010, 27.5600, Instant.now());
+        index.upsert(far, 53.9500, 27.6500, Instant.now());
+
+        Optional<ParamedicGridIndex.Entry> found = index.findNearest(53.9000, 27.5590, 10, id -> true);
+
+        assertTrue(found.isPresent());
+        assertEquals(near, found.get().paramedicId());
+    }
+
+    @Test
+    void findNearest_outsideRadius_returnsEmpty() {
+        index.upsert(UUID.randomUUID(), 54.5000, 28.5000, Instant.now());
+
+        assertFalse(index.findNearest(53.9000, 27.5590, 10, id -> true).isPresent());
+    }
+
+    @Test
+    void findNearest_skipsFilteredParamedics() {
+        UUID busy = UUID.randomUUID();
+        UUID free = UUID.randomUUID();
+        index.upsert(busy, 53.9001, 27.5591, Instant.now());
+        index.upsert(free, 53.9300, 27.6000, Instant.now());
+
+        Optional<ParamedicGridIndex.Entry> found = index.findNearest(53.9000, 27.5590, 10, id -> !id.equals(busy));
+
+        assertTrue(found.isPresent());
+        assertEquals(free, found.get().paramedicId());
+    }
+
+    @Test
+    void upsert_movesParamedicBetweenCells() {
+        UUID paramedicId = UUID.randomUUID();
+        index.upsert(paramedicId, 10.0, 10.0, Instant.now());
+        index.upsert(paramedicId, 53.9001, 27.5591, Instant.now());
+
+        assertEquals(1, index.size());
+        assertFalse(index.findNearest(10.0, 10.0, 5, id -> true).isPresent());
+        assertTrue(index.findNearest(53.9000, 27.5590, 5, id -> true).isPresent());
+    }
+
+    @Test
+    void evictOlderThan_dropsOnlyStalePositions() {
+        UUID stale = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        Instant now = Instant.now();
+        index.upsert(stale, 53.9001, 27.5591, now.minus(Duration.ofHours(1)));
+        index.upsert(fresh, 53.9100, 27.5700, now);
+
+        assertEquals(1, index.evictOlderThan(now.minus(Duration.ofMinutes(15))));
+        assertEquals(1, index.size());
+        assertEquals(fresh, index.findNearest(53.9000, 27.5590, 5, id -> true).orElseThrow().paramedicId());
+    }
+
+    @Test
+    void remove_dropsParamedicFromSearch() {
+        UUID paramedicId = UUID.randomUUID();
+        index.upsert(paramedicId, 53.9001, 27.5591, Instant.now());
+        index.remove(paramedicId);
+
+        assertEquals(0, index.size());
+        assertFalse(index.findNearest(53.9000, 27.5590, 5, id -> true).isPresent());
+    }
+
+    @Test
+    void findNearest_matchesBruteForce() {
+        Random random = new Random(42);
+        double[][] points = new double[2000][2];
+        UUID[] ids = new UUID[points.length];
+        for (int i = 0; i < points.length; i++) {
+            points[i][0] = 53.0 + random.nextDouble() * 2;
+            points[i][1] = 27.0 + random.nextDouble() * 2;
+            ids[i] = UUID.randomUUID();
+            index.upsert(ids[i], points[i][0], points[i][1], Instant.now());
+        }
+
+        for (int q = 0; q < 200; q++) {
+            double lat = 53.0 + random.nextDouble() * 2;
+            double lon = 27.0 + random.nextDouble() * 2;
+            double radius = 1 + random.nextDouble() * 20;
+
+            UUID expected = null;
+            double best = Double.MAX_VALUE;
+            for (int i = 0; i < points.length; i++) {
+                double distance = GeoUtils.distanceKm(lat, lon, points[i][0], points[i][1]);
+                if (distance <= radius && distance < best) {
+                    best = distance;
+                    expected = ids[i];
+                }
+            }
+
+            UUID actual = index.findNearest(lat, lon, radius, id -> true)
+                .map(ParamedicGridIndex.Entry::paramedicId)
+                .orElse(null);
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void distancesWithin_matchesBruteForce() {
+        Random random = new Random(7);
+        double[][] points = new double[2000][2];
+        for (int i = 0; i < points.length; i++) {
+            points[i][0] = 53.0 + random.nextDouble() * 2;
+            points[i][1] = 27.0 + random.nextDouble() * 2;
+            index.upsert(UUID.randomUUID(), points[i][0], points[i][1], Instant.now());
+        }
+
+        for (int q = 0; q < 100; q++) {
+            double lat = 53.0 + random.nextDouble() * 2;
+            double lon = 27.0 + random.nextDouble() * 2;
+            double radius = 1 + random.nextDouble() * 80;
+
+            double[] expected = Arrays.stream(points)
+                .mapToDouble(point -> GeoUtils.distanceKm(lat, lon, point[0], point[1]))
+                .filter(distance -> distance <= radius)
+                .sorted()
+                .toArray();
+
+            assertArrayEquals(expected, index.distancesWithin(lat, lon, radius, entry -> true));
+        }
+    }
+
+    @Test
+    void distancesWithin_skipsFilteredEntries() {
+        UUID busy = UUID.randomUUID();
+        index.upsert(busy, 53.9001, 27.5591, Instant.now());
+        index.upsert(UUID.randomUUID(), 53.9300, 27.6000, Instant.now());
+
+        double[] distances = index.distancesWithin(53.9000, 27.5590, 10, entry -> !entry.paramedicId().equals(busy));
+
+        assertEquals(1, distances.length);
+    }
+}
@@ -0,0 +1,134 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.ParamedicLocation;
+import com.ifortex.internship.emergencyservice.repository.ParamedicLocationRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMetrics;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicLocationBuffer;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ParamedicLocationBufferTest {
+
+    private static final GeoPoint ORIGIN = GeoPoint.of(53.9, 27.559);
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock private ParamedicLocationRepository paramedicLocationRepository;
+    @Mock private TaskScheduler taskScheduler;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ParamedicLocationBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ParamedicLocationBuffer(
+            paramedicLocationRepository, new DispatchMetrics(meterRegistry), taskScheduler, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void offer_repeatedReports_keepsLatestPositionOnly() {
+        UUID paramedicId = UUID.randomUUID();
+        ParamedicPosition latest = new ParamedicPosition(paramedicId, GeoPoint.of(53.91, 27.56), NOW.plusSeconds(5));
+
+        assertTrue(buffer.offer(new ParamedicPosition(paramedicId, ORIGIN, NOW)));
+        assertTrue(buffer.offer(latest));
+        assertFalse(buffer.offer(new ParamedicPosition(paramedicId, GeoPoint.of(53.80, 27.50), NOW.plusSeconds(2))));
+
+        assertEquals(1, buffer.size());
+        assertEquals(Optional.of(latest), buffer.get(paramedicId));
+    }
+
+    @Test
+    void findWithin_returnsBufferedPositionsInsideRadius() {
+        ParamedicPosition near = new ParamedicPosition(UUID.randomUUID(), GeoPoint.of(53.905, 27.56), NOW);
+        buffer.offer(near);
+        buffer.offer(new ParamedicPosition(UUID.randomUUID(), GeoPoint.of(55.75, 37.62), NOW));
+
+        assertEquals(List.of(near), buffer.findWithin(ORIGIN, 5));
+    }
+
+    @Test
+    void findWithin_movedOrFlushedPositions_areNotReturned() {
+        UUID moved = UUID.randomUUID();
+        buffer.offer(new ParamedicPosition(moved, GeoPoint.of(53.905, 27.56), NOW));
+        buffer.offer(new ParamedicPosition(moved, GeoPoint.of(55.75, 37.62), NOW.plusSeconds(1)));
+        buffer.offer(new ParamedicPosition(UUID.randomUUID(), GeoPoint.of(53.901, 27.56), NOW));
+        buffer.flush();
+        ParamedicPosition returned = new ParamedicPosition(moved, GeoPoint.of(53.902, 27.56), NOW.plusSeconds(2));
+        buffer.offer(returned);
+
+        assertEquals(List.of(returned), buffer.findWithin(ORIGIN, 5));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_writesOneBatchAndEmptiesBuffer() {
+        buffer.offer(new ParamedicPosition(UUID.randomUUID(), ORIGIN, NOW));
+        buffer.offer(new ParamedicPosition(UUID.randomUUID(), ORIGIN, NOW));
+
+        buffer.flush();
+
+        ArgumentCaptor<Collection<ParamedicLocation>> written = ArgumentCaptor.forClass(Collection.class);
+        verify(paramedicLocationRepository).upsertAll(written.capture());
+        assertEquals(2, written.getValue().size());
+        assertEquals(0, buffer.size());
+        assertEquals(2, meterRegistry.counter("dispatch.locations.flushed").count());
+    }
+
+    @Test
+    void flush_positionReplacedDuringWrite_staysBuffered() {
+        UUID paramedicId = UUID.randomUUID();
+        ParamedicPosition replacement = new ParamedicPosition(paramedicId, GeoPoint.of(53.91, 27.56), NOW.plusSeconds(3));
+        buffer.offer(new ParamedicPosition(paramedicId, ORIGIN, NOW));
+        doAnswer(invocation -> {
+            buffer.offer(replacement);
+            return null;
+        }).when(paramedicLocationRepository).upsertAll(any());
+
+        buffer.flush();
+
+        assertEquals(Optional.of(replacement), buffer.get(paramedicId));
+    }
+
+    @Test
+    void flush_writeFails_keepsPositionsForNextFlush() {
+        buffer.offer(new ParamedicPosition(UUID.randomUUID(), ORIGIN, NOW));
+        doThrow(new IllegalStateException("connection refused")).when(paramedicLocationRepository).upsertAll(any());
+
+        buffer.flush();
+
+        assertEquals(1, buffer.size());
+        assertEquals(0, meterRegistry.counter("dispatch.locations.flushed").count());
+    }
+
+    @Test
+    void flush_emptyBuffer_skipsWrite() {
+        buffer.flush();
+
+        verify(paramedicLocationRepository, never()).upsertAll(any());
+    }
+}
@@ -0,0 +1,79 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.service.dispatch.SearchAreaIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchAreaIndexTest {
+
+    private SearchAreaIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchAreaIndex();
+    }
+
+    @Test
+    void covering_matchesLinearScanAcrossRadii() {
+        Random random = new Random(11);
+        Map<UUID, GeoPoint> origins = new HashMap<>();
+        Map<UUID, Double> radii = new HashMap<>();
+        double[] radiusChoices = {2, 4, 8, 16, 32, 40};
+        for (int i = 0; i < 500; i++) {
+            UUID emergencyId = UUID.randomUUID();
+            GeoPoint origin = GeoPoint.of(53.9 + (random.nextDouble() - 0.5) * 2, 27.56 + (random.nextDouble() - 0.5) * 2);
+            double radiusKm = radiusChoices[random.nextInt(radiusChoices.length)];
+            index.put(emergencyId, origin, radiusKm);
+            origins.put(emergencyId, origin);
+            radii.put(emergencyId, radiusKm);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            double latitude = 53.9 + (random.nextDouble() - 0.5) * 2.5;
+            double longitude = 27.56 + (random.nextDouble() - 0.5) * 2.5;
+            Set<UUID> expected = new HashSet<>();
+            origins.forEach((emergencyId, origin) -> {
+                if (origin.distanceKm(latitude, longitude) <= radii.get(emergencyId)) {
+                    expected.add(emergencyId);
+                }
+            });
+
+            List<UUID> actual = index.covering(latitude, longitude);
+
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, new HashSet<>(actual));
+        }
+    }
+
+    @Test
+    void put_changedRadius_replacesArea() {
+        UUID emergencyId = UUID.randomUUID();
+        index.put(emergencyId, GeoPoint.of(53.9000, 27.5590), 2);
+        index.put(emergencyId, GeoPoint.of(53.9000, 27.5590), 8);
+
+        assertEquals(List.of(emergencyId), index.covering(53.9400, 27.5590));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void remove_dropsArea() {
+        UUID emergencyId = UUID.randomUUID();
+        index.put(emergencyId, GeoPoint.of(53.9000, 27.5590), 10);
+        index.remove(emergencyId);
+
+        assertTrue(index.covering(53.9000, 27.5590).isEmpty());
+        assertEquals(0, index.size());
+    }
+}
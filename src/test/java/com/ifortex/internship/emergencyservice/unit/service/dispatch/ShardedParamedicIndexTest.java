@@ -0,0 +1,174 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicGridIndex;
+import com.ifortex.internship.emergencyservice.service.dispatch.ShardedParamedicIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedParamedicIndexTest {
+
+    private ShardedParamedicIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ShardedParamedicIndex(4, 5, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void findNearest_acrossRegions_matchesSingleGrid() {
+        ParamedicGridIndex reference = new ParamedicGridIndex(1);
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            UUID id = UUID.randomUUID();
+            double latitude = 53.9 + (random.nextDouble() - 0.5) * 0.6;
+            double longitude = 27.56 + (random.nextDouble() - 0.5) * 0.6;
+            index.upsert(id, latitude, longitude, Instant.EPOCH);
+            reference.upsert(id, latitude, longitude, Instant.EPOCH);
+        }
+        index.awaitUpdates();
+
+        for (int i = 0; i < 200; i++) {
+            double latitude = 53.9 + (random.nextDouble() - 0.5) * 0.6;
+            double longitude = 27.56 + (random.nextDouble() - 0.5) * 0.6;
+            double radiusKm = 1 + random.nextDouble() * 15;
+
+            List<UUID> expected = ids(reference.findNearest(latitude, longitude, radiusKm, 5, id -> true));
+            List<UUID> actual = ids(index.findNearest(latitude, longitude, radiusKm, 5, id -> true));
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void upsert_movesParamedicBetweenShards() {
+        UUID paramedicId = UUID.randomUUID();
+        index.upsert(paramedicId, 53.9000, 27.5600, Instant.now());
+        index.upsert(paramedicId, 54.5000, 28.5000, Instant.now());
+        index.awaitUpdates();
+
+        assertTrue(index.findNearest(53.9000, 27.5600, 5, 1, id -> true).isEmpty());
+        assertEquals(List.of(paramedicId), ids(index.findNearest(54.5000, 28.5000, 5, 1, id -> true)));
+    }
+
+    @Test
+    void distancesWithin_acrossRegions_matchesSingleGrid() {
+        ParamedicGridIndex reference = new ParamedicGridIndex(1);
+        Random random = new Random(7);
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = UUID.randomUUID();
+            double latitude = 53.9 + (random.nextDouble() - 0.5) * 0.4;
+            double longitude = 27.56 + (random.nextDouble() - 0.5) * 0.4;
+            index.upsert(id, latitude, longitude, Instant.EPOCH);
+            reference.upsert(id, latitude, longitude, Instant.EPOCH);
+        }
+        index.awaitUpdates();
+
+        assertArrayEquals(reference.distancesWithin(53.9, 27.56, 12, entry -> true),
+            index.distancesWithin(53.9, 27.56, 12, entry -> true));
+    }
+
+    @Test
+    void get_afterMoveBetweenShards_returnsLatestPosition() {
+        UUID paramedicId = UUID.randomUUID();
+        index.upsert(paramedicId, 53.9000, 27.5600, Instant.EPOCH);
+        index.upsert(paramedicId, 54.5000, 28.5000, Instant.EPOCH.plusSeconds(5));
+        index.awaitUpdates();
+
+        ParamedicGridIndex.Entry entry = index.get(paramedicId).orElseThrow();
+        assertEquals(54.5000, entry.latitude());
+        assertEquals(Instant.EPOCH.plusSeconds(5), entry.updatedAt());
+        assertTrue(index.get(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void remove_dropsParamedic() {
+        UUID paramedicId = UUID.randomUUID();
+        index.upsert(paramedicId, 53.9000, 27.5600, Instant.now());
+        index.remove(paramedicId);
+        index.awaitUpdates();
+
+        assertTrue(index.findNearest(53.9000, 27.5600, 5, 1, id -> true).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void evictOlderThan_dropsOnlyStalePositions() {
+        UUID stale = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        Instant now = Instant.now();
+        index.upsert(stale, 53.9000, 27.5600, now.minus(Duration.ofHours(1)));
+        index.upsert(fresh, 53.9001, 27.5601, now);
+
+        assertEquals(1, index.evictOlderThan(now.minus(Duration.ofMinutes(15))));
+        index.awaitUpdates();
+        assertEquals(1, index.size());
+        assertEquals(List.of(fresh), ids(index.findNearest(53.9000, 27.5600, 5, 5, id -> true)));
+    }
+
+    @Test
+    void upsert_concurrentWriters_keepLatestPositionOfEveryParamedic() throws Exception {
+        int writers = 4;
+        int paramedicsPerWriter = 50;
+        Map<UUID, double[]> latest = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int seed = w;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    List<UUID> own = new ArrayList<>();
+                    for (int i = 0; i < paramedicsPerWriter; i++) {
+                        own.add(UUID.randomUUID());
+                    }
+                    for (int move = 0; move < 2_000; move++) {
+                        UUID id = own.get(random.nextInt(own.size()));
+                        double[] position = {53.5 + random.nextDouble(), 27.5 + random.nextDouble()};
+                        index.upsert(id, position[0], position[1], Instant.EPOCH);
+                        latest.put(id, position);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        index.awaitUpdates();
+
+        List<ParamedicGridIndex.Entry> all = index.findNearest(54.0, 28.0, 200, latest.size() + 1, id -> true);
+        assertEquals(latest.size(), all.size());
+        assertEquals(latest.size(), index.size());
+        for (ParamedicGridIndex.Entry entry : all) {
+            assertEquals(latest.get(entry.paramedicId())[0], entry.latitude());
+            assertEquals(latest.get(entry.paramedicId())[1], entry.longitude());
+        }
+    }
+
+    private static List<UUID> ids(List<ParamedicGridIndex.Entry> entries) {
+        return entries.stream().map(ParamedicGridIndex.Entry::paramedicId).toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ifortex.internship.emergencyservice.unit.service.dispatch;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.ParamedicLocation;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.repository.ParamedicLocationRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.BusyParamedicRegistry;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMetrics;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicLocationBuffer;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import com.ifortex.internship.emergencyservice.service.dispatch.SqlParamedicLocator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SqlParamedicLocatorTest {
+
+    private static final GeoPoint ORIGIN = GeoPoint.of(53.9, 27.559);
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock private ParamedicLocationRepository paramedicLocationRepository;
+    @Mock private EmergencyRepository emergencyRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TaskScheduler taskScheduler;
+
+    private ParamedicLocationBuffer buffer;
+    private BusyParamedicRegistry busyParamedicRegistry;
+    private SqlParamedicLocator locator;
+
+    @BeforeEach
+    void setUp() {
+        DispatchMetrics dispatchMetrics = new DispatchMetrics(new SimpleMeterRegistry());
+        buffer = new ParamedicLocationBuffer(paramedicLocationRepository, dispatchMetrics, taskScheduler, Duration.ofSeconds(1));
+        busyParamedicRegistry = new BusyParamedicRegistry(
+            emergencyRepository, eventPublisher, dispatchMetrics, taskScheduler, Duration.ofMinutes(5));
+        locator = new SqlParamedicLocator(paramedicLocationRepository, buffer, busyParamedicRegistry,
+            Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofMinutes(15));
+    }
+
+    @Test
+    void findNearestAvailable_emptyBuffer_returnsStoredPositions() {
+        ParamedicLocation stored = location(UUID.randomUUID(), "53.905000", "27.560000", NOW.minusSeconds(30));
+        whenStored(List.of(stored));
+
+        List<ParamedicPosition> found = locator.findNearestAvailable(ORIGIN, 10, 5);
+
+        assertEquals(List.of(ParamedicPosition.of(stored)), found);
+    }
+
+    @Test
+    void findNearestAvailable_bufferedPositions_overlayStoredRows() {
+        UUID movedAway = UUID.randomUUID();
+        UUID movedCloser = UUID.randomUUID();
+        UUID arrived = UUID.randomUUID();
+        UUID busy = UUID.randomUUID();
+        whenStored(List.of(
+            location(movedAway, "53.901000", "27.559000", NOW.minusSeconds(30)),
+            location(movedCloser, "53.950000", "27.559000", NOW.minusSeconds(30))));
+        buffer.offer(new ParamedicPosition(movedAway, GeoPoint.of(55.75, 37.62), NOW));
+        ParamedicPosition closer = new ParamedicPosition(movedCloser, GeoPoint.of(53.9001, 27.559), NOW);
+        buffer.offer(closer);
+        ParamedicPosition newcomer = new ParamedicPosition(arrived, GeoPoint.of(53.91, 27.559), NOW);
+        buffer.offer(newcomer);
+        buffer.offer(new ParamedicPosition(busy, GeoPoint.of(53.9002, 27.559), NOW));
+        busyParamedicRegistry.markBusy(busy);
+
+        List<ParamedicPosition> found = locator.findNearestAvailable(ORIGIN, 10, 5);
+
+        assertEquals(List.of(closer, newcomer), found);
+    }
+
+    private void whenStored(List<ParamedicLocation> locations) {
+        when(paramedicLocationRepository.findNearestAvailableParamedicsInBox(anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+            anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(), anyInt())).thenReturn(locations);
+    }
+
+    private static ParamedicLocation location(UUID paramedicId, String latitude, String longitude, Instant updatedAt) {
+        return new ParamedicLocation(paramedicId, new BigDecimal(latitude), new BigDecimal(longitude), updatedAt);
+    }
+}
@@ -0,0 +1,191 @@
+package com.ifortex.internship.emergencyservice.unit.service.tracking;
+
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicReleasedEvent;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.EmergencyLocation;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencySnapshot;
+import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.DispatchMetrics;
+import com.ifortex.internship.emergencyservice.service.tracking.ArrivalDetector;
+import com.ifortex.internship.emergencyservice.service.tracking.EmergencyTrackRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArrivalDetectorTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Instant NOW = CREATED_AT.plusSeconds(600);
+
+    @Mock private EmergencyRepository emergencyRepository;
+    @Mock private EmergencyLocationRepository emergencyLocationRepository;
+    @Mock private EmergencySnapshotRepository emergencySnapshotRepository;
+    @Mock private EmergencyTrackRecorder emergencyTrackRecorder;
+    @Mock private TaskScheduler taskScheduler;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID paramedicId = UUID.randomUUID();
+    private final UUID emergencyId = UUID.randomUUID();
+    private final Queue<Runnable> scheduled = new ArrayDeque<>();
+    private ArrivalDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new ArrivalDetector(
+            emergencyRepository,
+            emergencyLocationRepository,
+            emergencySnapshotRepository,
+            emergencyTrackRecorder,
+            new DispatchMetrics(meterRegistry),
+            taskScheduler,
+            Clock.fixed(NOW, ZoneOffset.UTC),
+            75);
+    }
+
+    @Test
+    void onParamedicLocationChanged_notAssigned_readsNothing() {
+        when(emergencyTrackRecorder.findActiveEmergency(paramedicId)).thenReturn(Optional.empty());
+
+        detector.onParamedicLocationChanged(move(53.9, 27.56));
+
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        assertEquals(0, detector.size());
+    }
+
+    @Test
+    void onParamedicLocationChanged_outsideGeofence_loadsInitiatorOnce() {
+        givenAssigned();
+
+        detector.onParamedicLocationChanged(move(53.95, 27.56));
+        detector.onParamedicLocationChanged(move(53.95, 27.56));
+        runScheduled();
+        detector.onParamedicLocationChanged(move(53.9008, 27.56));
+        detector.onParamedicLocationChanged(move(53.9, 27.5612));
+        runScheduled();
+
+        verify(emergencyLocationRepository, times(1))
+            .findFirstByEmergencyIdAndLocationType(emergencyId, EmergencyLocationType.INITIATOR);
+        verify(emergencyRepository, never()).markArrived(any(), any(), any(), any());
+    }
+
+    @Test
+    void onParamedicLocationChanged_insideGeofence_recordsArrivalOnce() {
+        givenAssigned();
+        EmergencySnapshot snapshot = new EmergencySnapshot().setId(emergencyId.toString()).setCreatedAt(CREATED_AT).setArrivedAt(NOW);
+        when(emergencyRepository.markArrived(emergencyId, paramedicId, EmergencyStatus.ONGOING, NOW)).thenReturn(1);
+        when(emergencySnapshotRepository.setArrivedAt(emergencyId.toString(), NOW)).thenReturn(Optional.of(snapshot));
+
+        openGeofence();
+
+        detector.onParamedicLocationChanged(move(53.9005, 27.56));
+        detector.onParamedicLocationChanged(move(53.9, 27.56));
+        verify(emergencyRepository, never()).markArrived(any(), any(), any(), any());
+        runScheduled();
+        detector.onParamedicLocationChanged(move(53.9, 27.56));
+
+        verify(emergencyRepository, times(1)).markArrived(emergencyId, paramedicId, EmergencyStatus.ONGOING, NOW);
+        verify(emergencySnapshotRepository).setArrivedAt(emergencyId.toString(), NOW);
+        verify(emergencySnapshotRepository, never()).save(any());
+        assertEquals(600, meterRegistry.get("dispatch.arrival.time").timer().totalTime(TimeUnit.SECONDS), 0.001);
+        assertEquals(0, detector.size());
+    }
+
+    @Test
+    void onParamedicLocationChanged_arrivalAlreadyRecorded_skipsSnapshot() {
+        givenAssigned();
+        when(emergencyRepository.markArrived(emergencyId, paramedicId, EmergencyStatus.ONGOING, NOW)).thenReturn(0);
+        openGeofence();
+
+        detector.onParamedicLocationChanged(move(53.9, 27.56));
+        runScheduled();
+
+        verify(emergencySnapshotRepository, never()).setArrivedAt(any(), any());
+        assertEquals(0, detector.size());
+    }
+
+    @Test
+    void onParamedicLocationChanged_arrivalWriteFails_keepsGeofenceAndRetries() {
+        givenAssigned();
+        when(emergencyRepository.markArrived(emergencyId, paramedicId, EmergencyStatus.ONGOING, NOW))
+            .thenThrow(new IllegalStateException("db down"))
+            .thenReturn(1);
+        when(emergencySnapshotRepository.setArrivedAt(emergencyId.toString(), NOW)).thenReturn(Optional.empty());
+        openGeofence();
+
+        detector.onParamedicLocationChanged(move(53.9, 27.56));
+        runScheduled();
+
+        assertEquals(1, detector.size());
+
+        detector.onParamedicLocationChanged(move(53.9, 27.56));
+        runScheduled();
+
+        verify(emergencyRepository, times(2)).markArrived(emergencyId, paramedicId, EmergencyStatus.ONGOING, NOW);
+        assertEquals(0, detector.size());
+    }
+
+    @Test
+    void onParamedicReleased_dropsGeofence() {
+        givenAssigned();
+        openGeofence();
+
+        detector.onParamedicReleased(new ParamedicReleasedEvent(paramedicId));
+
+        assertEquals(0, detector.size());
+    }
+
+    private void givenAssigned() {
+        when(emergencyTrackRecorder.findActiveEmergency(paramedicId)).thenReturn(Optional.of(emergencyId));
+        when(emergencyLocationRepository.findFirstByEmergencyIdAndLocationType(emergencyId, EmergencyLocationType.INITIATOR))
+            .thenReturn(Optional.of(new EmergencyLocation()
+                .setLocationType(EmergencyLocationType.INITIATOR)
+                .setLatitude(new BigDecimal("53.900000"))
+                .setLongitude(new BigDecimal("27.560000"))));
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return null;
+        });
+    }
+
+    private void openGeofence() {
+        detector.onParamedicLocationChanged(move(53.95, 27.56));
+        runScheduled();
+        assertEquals(1, detector.size());
+    }
+
+    private void runScheduled() {
+        for (Runnable task = scheduled.poll(); task != null; task = scheduled.poll()) {
+            task.run();
+        }
+    }
+
+    private ParamedicLocationChangedEvent move(double latitude, double longitude) {
+        return new ParamedicLocationChangedEvent(paramedicId, latitude, longitude, NOW);
+    }
+}
@@ -0,0 +1,279 @@
+package com.ifortex.internship.emergencyservice.unit.service.tracking;
+
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicReleasedEvent;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyLocationType;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
+import com.ifortex.internship.emergencyservice.model.emergency.EmergencyLocation;
+import com.ifortex.internship.emergencyservice.model.snapshot.EmergencyLocationSnapshot;
+import com.ifortex.internship.emergencyservice.repository.EmergencyLocationRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.repository.EmergencySnapshotRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.BusyParamedicRegistry;
+import com.ifortex.internship.emergencyservice.service.tracking.EmergencyTrackRecorder;
+import com.ifortex.internship.emergencyservice.util.TrackPointMapper;
+import com.ifortex.internship.medstarter.exception.custom.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmergencyTrackRecorderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock private EmergencyRepository emergencyRepository;
+    @Mock private EmergencyLocationRepository emergencyLocationRepository;
+    @Mock private EmergencySnapshotRepository emergencySnapshotRepository;
+    @Mock private BusyParamedicRegistry busyParamedicRegistry;
+    @Mock private TaskScheduler taskScheduler;
+
+    private EmergencyTrackRecorder recorder;
+    private final Queue<Runnable> scheduled = new ArrayDeque<>();
+    private final UUID paramedicId = UUID.randomUUID();
+    private final Emergency emergency = new Emergency().setStatus(EmergencyStatus.ONGOING);
+
+    @BeforeEach
+    void setUp() {
+        recorder = new EmergencyTrackRecorder(
+            emergencyRepository,
+            emergencyLocationRepository,
+            emergencySnapshotRepository,
+            Mappers.getMapper(TrackPointMapper.class),
+            busyParamedicRegistry,
+            taskScheduler,
+            Clock.fixed(NOW, ZoneOffset.UTC),
+            16,
+            Duration.ofSeconds(5),
+            10);
+        emergency.setId(UUID.randomUUID());
+        emergency.setParamedicId(paramedicId);
+    }
+
+    @Test
+    void onParamedicLocationChanged_notBusy_recordsNothing() {
+        when(busyParamedicRegistry.isBusy(paramedicId)).thenReturn(false);
+
+        recorder.onParamedicLocationChanged(move(0));
+        recorder.flush();
+
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        verify(emergencyLocationRepository, never()).appendTrackPoints(any());
+    }
+
+    @Test
+    void onParamedicLocationChanged_firstPosition_opensTrackOffTheIngestThread() {
+        givenAssigned();
+
+        recorder.onParamedicLocationChanged(move(0));
+        recorder.onParamedicLocationChanged(move(1));
+
+        verify(emergencyRepository, never()).findFirstByParamedicIdAndStatusOrderByCreatedAtDesc(any(), any());
+        assertEquals(Optional.empty(), recorder.findActiveEmergency(paramedicId));
+        assertEquals(1, scheduled.size());
+
+        runScheduled();
+
+        assertEquals(Optional.of(emergency.getId()), recorder.findActiveEmergency(paramedicId));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_busyParamedic_appendsEachPointOnce() {
+        givenAssigned();
+
+        recorder.onParamedicLocationChanged(move(0));
+        runScheduled();
+        recorder.onParamedicLocationChanged(move(1));
+        recorder.flush();
+        recorder.onParamedicLocationChanged(move(2));
+        recorder.flush();
+
+        ArgumentCaptor<Collection<TrackPoint>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(emergencyLocationRepository, times(2)).appendTrackPoints(captor.capture());
+        assertEquals(List.of(NOW, NOW.plusSeconds(1)), recordedAt(captor.getAllValues().get(0)));
+        assertEquals(List.of(NOW.plusSeconds(2)), recordedAt(captor.getAllValues().get(1)));
+        verify(emergencyRepository, times(1))
+            .findFirstByParamedicIdAndStatusOrderByCreatedAtDesc(paramedicId, EmergencyStatus.ONGOING);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_positionsReportedWhileOpening_appendedInOrder() {
+        givenAssigned();
+
+        recorder.onParamedicLocationChanged(move(0));
+        recorder.onParamedicLocationChanged(move(1));
+        recorder.onParamedicLocationChanged(move(2));
+        runScheduled();
+        recorder.onParamedicLocationChanged(move(3));
+        recorder.flush();
+
+        ArgumentCaptor<Collection<TrackPoint>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(emergencyLocationRepository).appendTrackPoints(captor.capture());
+        assertEquals(List.of(NOW, NOW.plusSeconds(1), NOW.plusSeconds(2), NOW.plusSeconds(3)),
+            recordedAt(captor.getValue()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_writeFails_retriesPointsOnNextFlush() {
+        givenAssigned();
+        recorder.onParamedicLocationChanged(move(0));
+        runScheduled();
+        doThrow(new IllegalStateException("db down")).doNothing().when(emergencyLocationRepository).appendTrackPoints(any());
+
+        recorder.flush();
+        recorder.flush();
+
+        ArgumentCaptor<Collection<TrackPoint>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(emergencyLocationRepository, times(2)).appendTrackPoints(captor.capture());
+        assertEquals(List.of(NOW), recordedAt(captor.getAllValues().get(1)));
+    }
+
+    @Test
+    void onParamedicReleased_flushesAndClosesTrack() {
+        givenAssigned();
+        recorder.onParamedicLocationChanged(move(0));
+        runScheduled();
+
+        recorder.onParamedicReleased(new ParamedicReleasedEvent(paramedicId));
+        runScheduled();
+        recorder.flush();
+
+        verify(emergencyLocationRepository, times(1)).appendTrackPoints(any());
+    }
+
+    @Test
+    void onParamedicReleased_persistsTrackOutsideTheReleasingThread() {
+        givenAssigned();
+        recorder.onParamedicLocationChanged(move(0));
+        runScheduled();
+        recorder.onParamedicLocationChanged(move(1));
+
+        recorder.onParamedicReleased(new ParamedicReleasedEvent(paramedicId));
+
+        verify(emergencyLocationRepository, never()).appendTrackPoints(any());
+        runScheduled();
+        verify(emergencyLocationRepository, times(1)).appendTrackPoints(argThat(points -> points.size() == 2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onParamedicReleased_savesSimplifiedTrackToSnapshot() {
+        givenAssigned();
+        when(emergencySnapshotRepository.replaceTrack(eq(emergency.getId().toString()), any())).thenReturn(true);
+        List<EmergencyLocation> stored = new ArrayList<>();
+        doAnswer(invocation -> {
+            invocation.<Collection<TrackPoint>>getArgument(0).forEach(point -> stored.add(new EmergencyLocation()
+                .setLocationType(EmergencyLocationType.PARAMEDIC_TRACK)
+                .setLatitude(point.point().latitudeDecimal())
+                .setLongitude(point.point().longitudeDecimal())
+                .setTimestamp(point.recordedAt())));
+            return null;
+        }).when(emergencyLocationRepository).appendTrackPoints(any());
+        when(emergencyLocationRepository.findByEmergencyIdAndLocationTypeOrderByTimestampAsc(
+            emergency.getId(), EmergencyLocationType.PARAMEDIC_TRACK)).thenReturn(stored);
+        recorder.onParamedicLocationChanged(move(0));
+        runScheduled();
+        for (int second = 1; second < 10; second++) {
+            recorder.onParamedicLocationChanged(move(second));
+        }
+
+        recorder.onParamedicReleased(new ParamedicReleasedEvent(paramedicId));
+        runScheduled();
+
+        ArgumentCaptor<Collection<EmergencyLocationSnapshot>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(emergencySnapshotRepository).replaceTrack(eq(emergency.getId().toString()), captor.capture());
+        verify(emergencySnapshotRepository, never()).save(any());
+        List<EmergencyLocationSnapshot> track = List.copyOf(captor.getValue());
+        assertEquals(List.of(NOW, NOW.plusSeconds(9)), track.stream().map(EmergencyLocationSnapshot::getTimestamp).toList());
+        assertEquals(emergency.getId(), track.getFirst().getEmergencyId());
+        assertEquals(EmergencyLocationType.PARAMEDIC_TRACK, track.getFirst().getLocationType());
+    }
+
+    @Test
+    void findTrack_mergesStoredAndPendingPoints() {
+        givenAssigned();
+        recorder.onParamedicLocationChanged(move(0));
+        runScheduled();
+        recorder.onParamedicLocationChanged(move(1));
+        when(emergencyRepository.existsById(emergency.getId())).thenReturn(true);
+        when(emergencyLocationRepository.findByEmergencyIdAndLocationTypeOrderByTimestampAsc(
+            emergency.getId(), EmergencyLocationType.PARAMEDIC_TRACK))
+            .thenReturn(List.of(new EmergencyLocation()
+                .setEmergency(emergency)
+                .setLocationType(EmergencyLocationType.PARAMEDIC_TRACK)
+                .setLatitude(new BigDecimal("53.900000"))
+                .setLongitude(new BigDecimal("27.560000"))
+                .setTimestamp(NOW)));
+
+        List<TrackPoint> track = recorder.findTrack(emergency.getId());
+
+        assertEquals(List.of(NOW, NOW.plusSeconds(1)), recordedAt(track));
+    }
+
+    @Test
+    void findTrack_unknownEmergency_throwsEntityNotFound() {
+        UUID emergencyId = UUID.randomUUID();
+        when(emergencyRepository.existsById(emergencyId)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> recorder.findTrack(emergencyId));
+    }
+
+    private void givenAssigned() {
+        when(busyParamedicRegistry.isBusy(paramedicId)).thenReturn(true);
+        when(emergencyRepository.findFirstByParamedicIdAndStatusOrderByCreatedAtDesc(paramedicId, EmergencyStatus.ONGOING))
+            .thenReturn(Optional.of(emergency));
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return null;
+        });
+    }
+
+    private void runScheduled() {
+        for (Runnable task = scheduled.poll(); task != null; task = scheduled.poll()) {
+            task.run();
+        }
+    }
+
+    private ParamedicLocationChangedEvent move(int second) {
+        return new ParamedicLocationChangedEvent(paramedicId, 53.9 + second * 0.001, 27.56, NOW.plusSeconds(second));
+    }
+
+    private static List<Instant> recordedAt(Collection<TrackPoint> points) {
+        return points.stream().map(TrackPoint::recordedAt).toList();
+    }
+}
@@ -0,0 +1,176 @@
+package com.ifortex.internship.emergencyservice.unit.service.tracking;
+
+import com.ifortex.internship.emergencyservice.event.EmergencyClosedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicLocationChangedEvent;
+import com.ifortex.internship.emergencyservice.event.ParamedicReleasedEvent;
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.constant.EmergencyStatus;
+import com.ifortex.internship.emergencyservice.model.emergency.Emergency;
+import com.ifortex.internship.emergencyservice.repository.EmergencyRepository;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicLocator;
+import com.ifortex.internship.emergencyservice.service.dispatch.ParamedicPosition;
+import com.ifortex.internship.emergencyservice.service.tracking.EmergencyTrackRecorder;
+import com.ifortex.internship.emergencyservice.service.tracking.ParamedicPositionStream;
+import com.ifortex.internship.emergencyservice.util.TrackPointMapper;
+import com.ifortex.internship.medstarter.exception.custom.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParamedicPositionStreamTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock private EmergencyRepository emergencyRepository;
+    @Mock private EmergencyTrackRecorder emergencyTrackRecorder;
+    @Mock private ParamedicLocator paramedicLocator;
+
+    private final List<Runnable> sends = new ArrayList<>();
+    private final UUID clientId = UUID.randomUUID();
+    private final UUID paramedicId = UUID.randomUUID();
+    private final Emergency emergency = new Emergency().setClientId(clientId).setStatus(EmergencyStatus.ONGOING);
+    private ParamedicPositionStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new ParamedicPositionStream(
+            emergencyRepository,
+            emergencyTrackRecorder,
+            paramedicLocator,
+            Mappers.getMapper(TrackPointMapper.class),
+            sends::add,
+            Duration.ofMinutes(30));
+        emergency.setId(UUID.randomUUID());
+        emergency.setParamedicId(paramedicId);
+    }
+
+    @Test
+    void subscribe_noOngoingEmergency_throwsEntityNotFound() {
+        when(emergencyRepository.findByClientIdAndStatus(clientId, EmergencyStatus.ONGOING)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> stream.subscribe(clientId));
+    }
+
+    @Test
+    void subscribe_knownPosition_sendsItFromMemory() {
+        givenOngoing();
+        when(paramedicLocator.findPosition(paramedicId))
+            .thenReturn(Optional.of(new ParamedicPosition(paramedicId, GeoPoint.of(53.9, 27.56), NOW)));
+
+        stream.subscribe(clientId);
+        stream.subscribe(clientId);
+
+        assertEquals(2, stream.watcherCount(emergency.getId()));
+        assertEquals(2, sends.size());
+    }
+
+    @Test
+    void onParamedicLocationChanged_slowWatcher_queuesOneSendAndConflates() {
+        givenOngoing();
+        when(emergencyTrackRecorder.findActiveEmergency(paramedicId)).thenReturn(Optional.of(emergency.getId()));
+        stream.subscribe(clientId);
+
+        for (int second = 0; second < 5; second++) {
+            stream.onParamedicLocationChanged(move(second));
+        }
+        assertEquals(1, sends.size());
+
+        sends.removeFirst().run();
+        stream.onParamedicLocationChanged(move(5));
+
+        assertEquals(1, sends.size());
+        verify(emergencyRepository, times(1)).findByClientIdAndStatus(clientId, EmergencyStatus.ONGOING);
+    }
+
+    @Test
+    void onParamedicLocationChanged_outOfOrderPosition_isNotSent() {
+        givenOngoing();
+        when(emergencyTrackRecorder.findActiveEmergency(paramedicId)).thenReturn(Optional.of(emergency.getId()));
+        stream.subscribe(clientId);
+        stream.onParamedicLocationChanged(move(5));
+        sends.removeFirst().run();
+
+        stream.onParamedicLocationChanged(move(3));
+
+        assertEquals(0, sends.size());
+    }
+
+    @Test
+    void onParamedicLocationChanged_noWatchers_skipsLookup() {
+        stream.onParamedicLocationChanged(move(0));
+
+        verify(emergencyTrackRecorder, never()).findActiveEmergency(paramedicId);
+    }
+
+    @Test
+    void onParamedicReleased_closesTopic() {
+        givenOngoing();
+        stream.subscribe(clientId);
+
+        stream.onParamedicReleased(new ParamedicReleasedEvent(paramedicId));
+
+        assertEquals(0, stream.watcherCount(emergency.getId()));
+    }
+
+    @Test
+    void onEmergencyClosed_noParamedicAssigned_closesTopic() {
+        emergency.setParamedicId(null);
+        givenOngoing();
+        stream.subscribe(clientId);
+        stream.subscribe(clientId);
+
+        stream.onEmergencyClosed(new EmergencyClosedEvent(emergency.getId()));
+
+        assertEquals(0, stream.watcherCount(emergency.getId()));
+        assertEquals(0, sends.size());
+    }
+
+    @Test
+    void subscribe_emergencyClosedWhileSubscribing_closesTopic() {
+        when(emergencyRepository.findByClientIdAndStatus(clientId, EmergencyStatus.ONGOING)).thenReturn(Optional.of(emergency));
+        when(emergencyRepository.existsByIdAndStatus(emergency.getId(), EmergencyStatus.ONGOING)).thenReturn(false);
+
+        stream.subscribe(clientId);
+
+        assertEquals(0, stream.watcherCount(emergency.getId()));
+        verify(paramedicLocator, never()).findPosition(any());
+    }
+
+    @Test
+    void onEmergencyClosed_otherEmergency_keepsTopic() {
+        givenOngoing();
+        stream.subscribe(clientId);
+
+        stream.onEmergencyClosed(new EmergencyClosedEvent(UUID.randomUUID()));
+
+        assertEquals(1, stream.watcherCount(emergency.getId()));
+    }
+
+    private void givenOngoing() {
+        when(emergencyRepository.findByClientIdAndStatus(clientId, EmergencyStatus.ONGOING)).thenReturn(Optional.of(emergency));
+        when(emergencyRepository.existsByIdAndStatus(emergency.getId(), EmergencyStatus.ONGOING)).thenReturn(true);
+    }
+
+    private ParamedicLocationChangedEvent move(int second) {
+        return new ParamedicLocationChangedEvent(paramedicId, 53.9 + second * 0.001, 27.56, NOW.plusSeconds(second));
+    }
+}
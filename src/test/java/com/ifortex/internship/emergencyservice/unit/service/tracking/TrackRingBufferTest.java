@@ -0,0 +1,65 @@
+package com.ifortex.internship.emergencyservice.unit.service.tracking;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.service.tracking.TrackRingBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrackRingBufferTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private final UUID emergencyId = UUID.randomUUID();
+
+    @Test
+    void pending_afterMarkFlushed_returnsOnlyNewPoints() {
+        TrackRingBuffer track = new TrackRingBuffer(emergencyId, 8);
+        append(track, 0, 3);
+
+        TrackRingBuffer.Pending first = track.pending();
+        assertEquals(3, first.points().size());
+        track.markFlushed(first.upTo());
+        append(track, 3, 5);
+
+        List<TrackPoint> points = track.pending().points();
+        assertEquals(List.of(NOW.plusSeconds(3), NOW.plusSeconds(4)), points.stream().map(TrackPoint::recordedAt).toList());
+        assertEquals(emergencyId, points.getFirst().emergencyId());
+        assertEquals(GeoPoint.of(53.903, 27.563), points.getFirst().point());
+    }
+
+    @Test
+    void pending_ringOverwritten_returnsLatestCapacityPointsInOrder() {
+        TrackRingBuffer track = new TrackRingBuffer(emergencyId, 4);
+        append(track, 0, 10);
+
+        assertEquals(
+            List.of(NOW.plusSeconds(6), NOW.plusSeconds(7), NOW.plusSeconds(8), NOW.plusSeconds(9)),
+            track.pending().points().stream().map(TrackPoint::recordedAt).toList());
+    }
+
+    @Test
+    void markFlushed_olderSequence_doesNotResendStoredPoints() {
+        TrackRingBuffer track = new TrackRingBuffer(emergencyId, 4);
+        append(track, 0, 2);
+        TrackRingBuffer.Pending stale = track.pending();
+        append(track, 2, 3);
+        track.markFlushed(track.pending().upTo());
+
+        track.markFlushed(stale.upTo());
+
+        assertTrue(track.pending().points().isEmpty());
+    }
+
+    private void append(TrackRingBuffer track, int from, int to) {
+        for (int i = from; i < to; i++) {
+            track.append(GeoPoint.of(53.9 + i * 0.001, 27.56 + i * 0.001), NOW.plusSeconds(i));
+        }
+    }
+}
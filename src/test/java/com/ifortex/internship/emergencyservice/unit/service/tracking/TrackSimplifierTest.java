@@ -0,0 +1,62 @@
+package com.ifortex.internship.emergencyservice.unit.service.tracking;
+
+import com.ifortex.internship.emergencyservice.model.GeoPoint;
+import com.ifortex.internship.emergencyservice.model.TrackPoint;
+import com.ifortex.internship.emergencyservice.service.tracking.TrackSimplifier;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrackSimplifierTest {
+
+    private static final UUID EMERGENCY_ID = UUID.randomUUID();
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Test
+    void simplify_straightLine_keepsEndpointsOnly() {
+        List<TrackPoint> track = new ArrayList<>();
+        for (int i = 0; i <= 20; i++) {
+            track.add(point(i, 53.9 + i * 0.0005, 27.56));
+        }
+
+        List<TrackPoint> simplified = TrackSimplifier.simplify(track, 10);
+
+        assertEquals(List.of(track.getFirst(), track.getLast()), simplified);
+    }
+
+    @Test
+    void simplify_turn_keepsCorner() {
+        List<TrackPoint> track = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            track.add(point(i, 53.9 + i * 0.001, 27.56));
+        }
+        for (int i = 1; i <= 10; i++) {
+            track.add(point(10 + i, 53.91, 27.56 + i * 0.001));
+        }
+
+        List<TrackPoint> simplified = TrackSimplifier.simplify(track, 10);
+
+        assertEquals(List.of(track.getFirst(), track.get(10), track.getLast()), simplified);
+    }
+
+    @Test
+    void simplify_jitterWithinTolerance_isDropped() {
+        List<TrackPoint> track = List.of(
+            point(0, 53.9, 27.56),
+            point(1, 53.90005, 27.56003),
+            point(2, 53.9001, 27.55997),
+            point(3, 53.90015, 27.56));
+
+        assertEquals(List.of(track.getFirst(), track.getLast()), TrackSimplifier.simplify(track, 10));
+        assertEquals(track, TrackSimplifier.simplify(track, 0.5));
+    }
+
+    private static TrackPoint point(int second, double latitude, double longitude) {
+        return new TrackPoint(EMERGENCY_ID, GeoPoint.of(latitude, longitude), NOW.plusSeconds(second));
+    }
+}